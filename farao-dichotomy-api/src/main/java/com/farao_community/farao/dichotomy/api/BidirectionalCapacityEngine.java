@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.BidirectionalCapacityResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.utils.Formatter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_LOGS;
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_WARNS;
+
+/**
+ * Engine searching both the maximum export and the maximum import of a border from a shared reference step value.
+ *
+ * <p>The reference step is validated once and added to the indexes of both searches. If it is not valid, no search
+ * is run and both results only hold the reference step, with its limiting cause. Otherwise the export search, towards
+ * the maximum value, and the import search, towards the minimum value, are run concurrently by two
+ * {@link DichotomyEngine} on the same network. The import search works on the opposite of the step values, on a
+ * variant of its own, so that the step variants of both searches never collide. The network validator is thus called
+ * from two threads at once, and must be thread-safe.</p>
+ */
+public final class BidirectionalCapacityEngine<T> {
+    private static final int DEFAULT_MAX_ITERATION_NUMBER = 100;
+    private static final String IMPORT_VARIANT_SUFFIX = "-Import";
+
+    private final double referenceValue;
+    private final double minValue;
+    private final double maxValue;
+    private final double precision;
+    private final IndexStrategy<T> exportIndexStrategy;
+    private final IndexStrategy<T> importIndexStrategy;
+    private final NetworkShifter networkShifter;
+    private final NetworkValidator<T> networkValidator;
+    private final int maxIteration;
+    private final boolean variantReuse;
+
+    /**
+     * Use the builder
+     */
+    private BidirectionalCapacityEngine(Builder<T> builder) {
+        if (!Double.isFinite(builder.minValue) || !Double.isFinite(builder.maxValue)) {
+            throw new DichotomyException("Min and max values of the bidirectional capacity engine should be finite.");
+        }
+        if (!(builder.minValue <= builder.referenceValue && builder.referenceValue <= builder.maxValue)) {
+            throw new DichotomyException("Reference step value of the bidirectional capacity engine should be between min and max values.");
+        }
+        if (!Double.isFinite(builder.precision) || builder.precision <= 0) {
+            throw new DichotomyException("Precision of the bidirectional capacity engine should be finite and positive.");
+        }
+        this.referenceValue = builder.referenceValue;
+        this.minValue = builder.minValue;
+        this.maxValue = builder.maxValue;
+        this.precision = builder.precision;
+        this.exportIndexStrategy = Objects.requireNonNull(builder.exportIndexStrategy);
+        this.importIndexStrategy = Objects.requireNonNull(builder.importIndexStrategy);
+        this.networkShifter = Objects.requireNonNull(builder.networkShifter);
+        this.networkValidator = Objects.requireNonNull(builder.networkValidator);
+        this.maxIteration = builder.maxIteration;
+        this.variantReuse = builder.variantReuse;
+    }
+
+    public BidirectionalCapacityResult<T> run(final Network network) {
+        final VariantManager variantManager = network.getVariantManager();
+        final String initialVariant = variantManager.getWorkingVariantId();
+        final String importVariant = initialVariant + IMPORT_VARIANT_SUFFIX;
+        final boolean multiThreadAccessEnabled = !variantManager.isVariantMultiThreadAccessAllowed();
+        if (multiThreadAccessEnabled) {
+            variantManager.allowVariantMultiThreadAccess(true);
+            variantManager.setWorkingVariant(initialVariant);
+        }
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<DichotomyResult<T>> importResult = null;
+        try {
+            final Index<T> exportIndex = new Index<>(referenceValue, maxValue, precision);
+            final Index<T> importIndex = new Index<>(-referenceValue, -minValue, precision);
+            final DichotomyEngine<T> exportEngine = buildEngine(exportIndex, exportIndexStrategy, networkShifter);
+            final DichotomyEngine<T> importEngine = buildEngine(importIndex, importIndexStrategy,
+                (stepValue, stepNetwork) -> networkShifter.shiftNetwork(-stepValue, stepNetwork));
+
+            BUSINESS_LOGS.info(String.format("Validating shared reference step value %s", Formatter.formatDoubleDecimals(referenceValue)));
+            final DichotomyStepResult<T> referenceStepResult;
+            try {
+                referenceStepResult = exportEngine.validate(referenceValue, network, initialVariant, null);
+            } catch (final RaoFailureException e) {
+                return new BidirectionalCapacityResult<>(DichotomyResult.buildFromRaoFailure(e.getMessage()), DichotomyResult.buildFromRaoFailure(e.getMessage()));
+            }
+            if (!referenceStepResult.isValid()) {
+                BUSINESS_WARNS.warn(String.format("Shared reference step value %s is not valid (%s), neither export nor import search is run",
+                    Formatter.formatDoubleDecimals(referenceValue), referenceStepResult.getReasonInvalid()));
+                return new BidirectionalCapacityResult<>(DichotomyResult.buildFromInvalidFirstStep(referenceValue, referenceStepResult),
+                    DichotomyResult.buildFromInvalidFirstStep(-referenceValue, referenceStepResult));
+            }
+            exportIndex.addDichotomyStepResult(referenceValue, referenceStepResult);
+            importIndex.addDichotomyStepResult(-referenceValue, referenceStepResult);
+
+            synchronized (variantManager) {
+                variantManager.cloneVariant(initialVariant, importVariant, true);
+            }
+            importResult = executor.submit(() -> {
+                variantManager.setWorkingVariant(importVariant);
+                return importEngine.run(network);
+            });
+            final DichotomyResult<T> exportResult = exportEngine.run(network);
+            return new BidirectionalCapacityResult<>(exportResult, importResult.get());
+        } catch (final ExecutionException e) {
+            throw new DichotomyException("Import search of the bidirectional capacity engine failed", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DichotomyException("Bidirectional capacity run has been interrupted while waiting for the import search", e);
+        } finally {
+            // The import search may still be running if the export search failed: it must be over before its variant
+            // is removed and variant access is reset
+            if (importResult != null) {
+                importResult.cancel(true);
+            }
+            executor.shutdown();
+            if (awaitImportSearchEnd(executor)) {
+                synchronized (variantManager) {
+                    if (variantManager.getVariantIds().contains(importVariant)) {
+                        variantManager.removeVariant(importVariant);
+                    }
+                }
+                if (multiThreadAccessEnabled) {
+                    variantManager.allowVariantMultiThreadAccess(false);
+                }
+            } else {
+                BUSINESS_WARNS.warn(String.format("Interrupted while waiting for the end of the import search, variant %s is not removed", importVariant));
+            }
+            variantManager.setWorkingVariant(initialVariant);
+        }
+    }
+
+    private static boolean awaitImportSearchEnd(final ExecutorService executor) {
+        try {
+            return executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private DichotomyEngine<T> buildEngine(final Index<T> index, final IndexStrategy<T> indexStrategy, final NetworkShifter shifter) {
+        return DichotomyEngine.<T>builder()
+            .withIndex(index)
+            .withIndexStrategy(indexStrategy)
+            .withNetworkShifter(shifter)
+            .withNetworkValidator(networkValidator)
+            .withMaxIteration(maxIteration)
+            .withVariantReuse(variantReuse)
+            .build();
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+        private double referenceValue = Double.NaN;
+        private double minValue = Double.NaN;
+        private double maxValue = Double.NaN;
+        private double precision = Double.NaN;
+        private IndexStrategy<T> exportIndexStrategy = new RangeDivisionIndexStrategy<>(true);
+        private IndexStrategy<T> importIndexStrategy = new RangeDivisionIndexStrategy<>(true);
+        private NetworkShifter networkShifter;
+        private NetworkValidator<T> networkValidator;
+        private int maxIteration = DEFAULT_MAX_ITERATION_NUMBER;
+        private boolean variantReuse;
+
+        private Builder() {
+        }
+
+        /**
+         * Step value both searches start from, validated once for both of them.
+         */
+        public Builder<T> withReferenceValue(final double referenceValue) {
+            this.referenceValue = referenceValue;
+            return this;
+        }
+
+        /**
+         * Bounds of the step values, the import search going down to the min value and the export search up to the max value.
+         */
+        public Builder<T> withBounds(final double minValue, final double maxValue) {
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+            return this;
+        }
+
+        public Builder<T> withPrecision(final double precision) {
+            this.precision = precision;
+            return this;
+        }
+
+        /**
+         * Index strategies of both searches. The import index strategy works on the opposite of the step values.
+         * Default strategies are {@link RangeDivisionIndexStrategy} starting with min value, which is the reference step.
+         */
+        public Builder<T> withIndexStrategies(final IndexStrategy<T> exportIndexStrategy, final IndexStrategy<T> importIndexStrategy) {
+            this.exportIndexStrategy = exportIndexStrategy;
+            this.importIndexStrategy = importIndexStrategy;
+            return this;
+        }
+
+        public Builder<T> withNetworkShifter(final NetworkShifter networkShifter) {
+            this.networkShifter = networkShifter;
+            return this;
+        }
+
+        /**
+         * Validator of the steps of both searches, called concurrently by the export search and the import search: it
+         * must be thread-safe.
+         */
+        public Builder<T> withNetworkValidator(final NetworkValidator<T> networkValidator) {
+            this.networkValidator = networkValidator;
+            return this;
+        }
+
+        /**
+         * Max number of iterations of each search. Default value is 100.
+         */
+        public Builder<T> withMaxIteration(final int maxIteration) {
+            this.maxIteration = maxIteration;
+            return this;
+        }
+
+        /**
+         * See {@link DichotomyEngine.Builder#withVariantReuse(boolean)}. Disabled by default.
+         */
+        public Builder<T> withVariantReuse(final boolean variantReuse) {
+            this.variantReuse = variantReuse;
+            return this;
+        }
+
+        public BidirectionalCapacityEngine<T> build() {
+            return new BidirectionalCapacityEngine<>(this);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.WarmStartIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * Index strategy of the fine phase of a coarse-to-fine dichotomy. Until the index holds both a valid and an invalid
+ * step, the ends of the coarse bracket are tested first, as a {@link WarmStartIndexStrategy} would. The configured
+ * index strategy of the engine then goes on from the confirmed bracket, and always decides whether the precision is
+ * reached.
+ */
+final class CoarseBracketIndexStrategy<T> implements IndexStrategy<T> {
+    private final IndexStrategy<T> indexStrategy;
+    private final WarmStartIndexStrategy<T> coarseBracketStrategy;
+
+    CoarseBracketIndexStrategy(final IndexStrategy<T> indexStrategy, final DichotomyResult<T> coarseResult, final double margin) {
+        this.indexStrategy = indexStrategy;
+        this.coarseBracketStrategy = WarmStartIndexStrategy.fromPreviousResult(coarseResult, margin);
+    }
+
+    @Override
+    public double nextValue(final Index<T> index) {
+        return index.hasMissingStep() ? coarseBracketStrategy.nextValue(index) : indexStrategy.nextValue(index);
+    }
+
+    @Override
+    public List<Double> nextValues(final Index<T> index, final int count) {
+        return index.hasMissingStep() ? coarseBracketStrategy.nextValues(index, count) : indexStrategy.nextValues(index, count);
+    }
+
+    @Override
+    public OptionalDouble anticipateNextValue(final Index<T> index, final double stepValue, final DichotomyStepResult<T> stepResult) {
+        final Index<T> anticipatedIndex = index.copy();
+        anticipatedIndex.addDichotomyStepResult(stepValue, stepResult);
+        if (!anticipatedIndex.hasMissingStep()) {
+            return indexStrategy.anticipateNextValue(index, stepValue, stepResult);
+        }
+        return precisionReached(anticipatedIndex) ? OptionalDouble.empty() : OptionalDouble.of(coarseBracketStrategy.nextValue(anticipatedIndex));
+    }
+
+    @Override
+    public boolean precisionReached(final Index<T> index) {
+        return indexStrategy.precisionReached(index);
+    }
+}
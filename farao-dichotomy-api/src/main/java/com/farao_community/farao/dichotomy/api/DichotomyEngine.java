@@ -6,6 +6,8 @@
  */
 package com.farao_community.farao.dichotomy.api;
 
+import com.farao_community.farao.dichotomy.api.checkpoint.CheckpointStore;
+import com.farao_community.farao.dichotomy.api.checkpoint.DichotomyCheckpoint;
 import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
 import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
@@ -14,13 +16,36 @@ import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
 import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
 import com.farao_community.farao.dichotomy.api.index.Index;
 import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.jfr.DichotomyRunEvent;
+import com.farao_community.farao.dichotomy.api.jfr.DichotomyStepEvent;
+import com.farao_community.farao.dichotomy.api.jfr.NetworkValidationEvent;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
 import com.farao_community.farao.dichotomy.api.utils.Formatter;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.apache.commons.lang3.tuple.Pair;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_LOGS;
 import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_WARNS;
@@ -34,11 +59,15 @@ import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerPro
  * {@link DichotomyStepResult}. Thanks to the index, in the end a {@link DichotomyResult} is defined that would define
  * a highest secure step and a lower unsecure step to characterize the dichotomy.</p>
  *
+ * <p>Optional features of the runs, such as parallel validations, checkpoints or a time budget, are set with the
+ * {@link Builder}. Runs, steps and validations are recorded as Java Flight Recorder events.</p>
+ *
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  */
 public class DichotomyEngine<T> {
     private static final int DEFAULT_MAX_ITERATION_NUMBER = 100;
+    private static final int DEFAULT_PARALLELISM = 1;
     private final Index<T> index;
     private final IndexStrategy<T> indexStrategy;
     private final InterruptionStrategy interruptionStrategy;
@@ -47,14 +76,41 @@ public class DichotomyEngine<T> {
     private final NetworkExporter networkExporter;
     private final int maxIteration;
     private final String runId;
+    private final DichotomyRunOptions<T> options;
+    // Iterations completed by the last synchronous run, so that the fine phase goes on from the coarse phase ones
+    private int completedIterations;
 
     /**
      * Use the builder
      */
-    DichotomyEngine(Index<T> index, IndexStrategy<T> indexStrategy, InterruptionStrategy interruptionStrategy, NetworkShifter networkShifter, NetworkValidator<T> networkValidator, NetworkExporter networkExporter, int maxIteration, String runId) {
+    DichotomyEngine(Index<T> index, IndexStrategy<T> indexStrategy, InterruptionStrategy interruptionStrategy, NetworkShifter networkShifter, NetworkValidator<T> networkValidator, NetworkExporter networkExporter, int maxIteration, String runId, DichotomyRunOptions<T> options) {
         if (maxIteration < 3) {
             throw new DichotomyException("Max number of iterations of the dichotomy engine should be at least 3.");
         }
+        if (options.parallelism() < 1) {
+            throw new DichotomyException("Parallelism of the dichotomy engine should be at least 1.");
+        }
+        if (options.checkpointStore() != null && runId == null) {
+            throw new DichotomyException("A run id is required to save checkpoints of the dichotomy.");
+        }
+        if (options.incrementalShift() && !(networkShifter instanceof IncrementalNetworkShifter)) {
+            throw new DichotomyException("Incremental shift requires a network shifter implementing IncrementalNetworkShifter.");
+        }
+        if (options.speculativeShift() && (options.parallelism() > 1 || options.incrementalShift())) {
+            throw new DichotomyException("Speculative shift is only available for sequential dichotomy without incremental shift.");
+        }
+        if (options.timeBudget() != null && (options.timeBudget().isNegative() || options.timeBudget().isZero())) {
+            throw new DichotomyException("Time budget of the dichotomy engine should be positive.");
+        }
+        if (!index.storeKeepsRaoResults() && !options.lossyStepResults()) {
+            throw new DichotomyException("Step result store of the index drops RAO results, lossy step results must be explicitly accepted.");
+        }
+        if (options.coarseNetworkValidator() != null && options.timeBudget() != null) {
+            throw new DichotomyException("Coarse validation is not available for dichotomy with a time budget.");
+        }
+        if (options.coarseNetworkValidator() != null && !(options.coarsePrecision() > index.precision())) {
+            throw new DichotomyException("Coarse precision of the dichotomy engine should be greater than the precision of the index.");
+        }
         this.index = Objects.requireNonNull(index);
         this.indexStrategy = Objects.requireNonNull(indexStrategy);
         this.interruptionStrategy = interruptionStrategy;
@@ -63,46 +119,396 @@ public class DichotomyEngine<T> {
         this.networkExporter = networkExporter;
         this.maxIteration = maxIteration;
         this.runId = runId;
+        this.options = Objects.requireNonNull(options);
     }
 
     public DichotomyResult<T> run(final Network network) {
-        int iterationCounter = 0;
+        if (options.coarseNetworkValidator() != null && index.testedStepsCount() == 0) {
+            return runCoarseToFine(network);
+        }
+        return run(network, 0);
+    }
+
+    private DichotomyResult<T> run(final Network network, final int firstIteration) {
+        final DichotomyRunEvent runEvent = new DichotomyRunEvent();
+        runEvent.begin();
+        DichotomyResult<T> dichotomyResult = null;
+        try {
+            dichotomyResult = runIterations(network, firstIteration);
+            return dichotomyResult;
+        } finally {
+            commitRunEvent(runEvent, dichotomyResult);
+        }
+    }
+
+    private DichotomyResult<T> runIterations(final Network network, final int firstIteration) {
+        int iterationCounter = firstIteration;
+        final TimeBudget runTimeBudget = TimeBudget.start(options.timeBudget(), options.nanoClock());
         final String initialVariant = network.getVariantManager().getWorkingVariantId();
+        final boolean multiThreadAccessEnabled = (options.parallelism() > 1 || options.speculativeShift()) && enableVariantMultiThreadAccess(network, initialVariant);
+        final ExecutorService executor = options.parallelism() > 1 ? Executors.newFixedThreadPool(options.parallelism()) : null;
+        final RunVariants runVariants = new RunVariants(network, initialVariant, options.variantReuse());
+        final SpeculativeShifts speculativeShifts = options.speculativeShift() ? new SpeculativeShifts(runVariants, networkShifter, 2) : null;
         String raoFailure = null;
 
-        while (!indexStrategy.precisionReached(index) && iterationCounter < maxIteration && raoFailure == null) {
-            if (interruptionStrategy != null && interruptionStrategy.shouldRunBeInterruptedSoftly(runId)) {
-                return buildInterruptedResult();
-            } else {
-                final double nextValue = indexStrategy.nextValue(index);
-                BUSINESS_LOGS.info(String.format("Next dichotomy step: %s", Formatter.formatDoubleDecimals(nextValue)));
-                try {
-                    final DichotomyStepResult<T> currentStepResult = validate(nextValue,
-                                                                   network,
-                                                                   initialVariant,
-                                                                   getLastDichotomyStepResult());
-                    logDichotomyStepResult(currentStepResult, nextValue);
-
-                    if (currentStepResult.getReasonInvalid() == ReasonInvalid.RAO_INTERRUPTION) {
-                        return buildInterruptedResult();
-                    } else {
-                        index.addDichotomyStepResult(nextValue, currentStepResult);
+        try {
+            while (!indexStrategy.precisionReached(index) && iterationCounter < maxIteration && raoFailure == null) {
+                if (interruptionStrategy != null && interruptionStrategy.shouldRunBeInterruptedSoftly(runId)) {
+                    return buildInterruptedResult();
+                } else if (!runTimeBudget.allowsNextIteration()) {
+                    return buildTimeBudgetResult(runTimeBudget);
+                } else {
+                    final List<Double> nextValues = nextStepValues();
+                    try {
+                        runTimeBudget.iterationStarted();
+                        if (speculativeShifts != null) {
+                            preShiftCandidateNextValues(nextValues.getFirst(), speculativeShifts);
+                        }
+                        final List<Pair<Double, DichotomyStepResult<T>>> stepResults = validateAll(nextValues,
+                                                                                                   runVariants,
+                                                                                                   speculativeShifts,
+                                                                                                   getLastDichotomyStepResult(),
+                                                                                                   executor);
+                        runTimeBudget.iterationCompleted();
+                        final boolean interrupted = addDichotomyStepResults(stepResults, iterationCounter + 1);
+                        retainBracketShiftedVariants(runVariants);
+                        if (interrupted) {
+                            return buildInterruptedResult();
+                        }
+                        iterationCounter++;
+                        notifyIterationCompleted(options.listeners(), iterationCounter);
+                    } catch (final RaoFailureException e) {
+                        raoFailure = e.getMessage();
                     }
-                    iterationCounter++;
-                } catch (final RaoFailureException e) {
-                    raoFailure = e.getMessage();
                 }
             }
+        } finally {
+            completedIterations = iterationCounter;
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            if (speculativeShifts != null) {
+                speculativeShifts.close();
+            }
+            runVariants.close();
+            if (multiThreadAccessEnabled) {
+                disableVariantMultiThreadAccess(network, initialVariant);
+            }
         }
 
         if (raoFailure != null) {
             return DichotomyResult.buildFromRaoFailure(raoFailure);
         }
+        return buildFinalResult(iterationCounter);
+    }
+
+    /**
+     * Runs the coarse phase on an index of its own, then the fine phase on the index of the engine. Both phases share
+     * the max number of iterations, the fine phase going on from the iterations of the coarse phase. The coarse phase
+     * saves no checkpoint, so that a resumed run goes on with the fine phase only.
+     */
+    private DichotomyResult<T> runCoarseToFine(final Network network) {
+        final Index<T> coarseIndex = new Index<>(index.minValue(), index.maxValue(), options.coarsePrecision());
+        final DichotomyEngine<T> coarseEngine = phaseEngine(coarseIndex, indexStrategy, options.coarseNetworkValidator(), null);
+        final DichotomyResult<T> coarseResult = coarseEngine.run(network);
+        if (coarseResult.isRaoFailed()) {
+            return coarseResult;
+        } else if (coarseResult.isInterrupted()) {
+            return buildInterruptedResult();
+        } else if (coarseIndex.testedStepsCount() == 0) {
+            return phaseEngine(index, indexStrategy, networkValidator, options.checkpointStore()).run(network, coarseEngine.completedIterations);
+        }
+        BUSINESS_LOGS.info(String.format("Coarse dichotomy bracket is [%s, %s], refining it with full validation",
+            Formatter.formatDoubleDecimals(coarseResult.getHighestValidStepValue()), Formatter.formatDoubleDecimals(coarseResult.getLowestInvalidStepValue())));
+        final IndexStrategy<T> fineIndexStrategy = new CoarseBracketIndexStrategy<>(indexStrategy, coarseResult, index.precision());
+        return phaseEngine(index, fineIndexStrategy, networkValidator, options.checkpointStore()).run(network, coarseEngine.completedIterations);
+    }
+
+    private DichotomyEngine<T> phaseEngine(final Index<T> phaseIndex, final IndexStrategy<T> phaseIndexStrategy,
+                                           final NetworkValidator<T> phaseNetworkValidator, final CheckpointStore phaseCheckpointStore) {
+        return new DichotomyEngine<>(phaseIndex, phaseIndexStrategy, interruptionStrategy, networkShifter, phaseNetworkValidator, networkExporter,
+            maxIteration, runId, options.forPhase(phaseCheckpointStore));
+    }
+
+    /**
+     * Resumes the dichotomy from the checkpoint saved for the run id of the engine in its {@link CheckpointStore}.
+     * If no checkpoint has been saved yet, the dichotomy is run from the beginning.
+     */
+    public DichotomyResult<T> resume(final Network network) {
+        if (options.checkpointStore() == null) {
+            throw new DichotomyException("A checkpoint store is required to resume the dichotomy.");
+        }
+        final Optional<DichotomyCheckpoint> checkpoint = options.checkpointStore().load(runId);
+        return checkpoint.isPresent() ? resume(network, checkpoint.get()) : run(network);
+    }
+
+    /**
+     * Resumes the dichotomy from the given checkpoint: tested steps are replayed into the index, then the dichotomy goes
+     * on as {@link #run(Network)} would, within what remains of the max number of iterations once the completed
+     * iterations of the checkpoint are counted. Replayed steps only hold their validity summary, so the last step result
+     * given to the {@link NetworkValidator} at the first resumed iteration may have no RAO result nor validation data.
+     */
+    public DichotomyResult<T> resume(final Network network, final DichotomyCheckpoint checkpoint) {
+        restore(Objects.requireNonNull(checkpoint));
+        return run(network, checkpoint.completedIterations());
+    }
+
+    private void restore(final DichotomyCheckpoint checkpoint) {
+        if (index.testedStepsCount() > 0) {
+            throw new DichotomyException("Dichotomy can only be resumed with an index that has no tested step.");
+        }
+        if (!checkpoint.isCompatibleWith(index)) {
+            throw new DichotomyException(String.format("Checkpoint of dichotomy run %s does not match the definition of the index.", checkpoint.runId()));
+        }
+        BUSINESS_LOGS.info(String.format("Dichotomy resumed from checkpoint with %d tested steps after %d iterations", checkpoint.steps().size(), checkpoint.completedIterations()));
+        // Index strategies may hold a state which is updated when checking precision, so it is checked after each step
+        checkpoint.steps().forEach(step -> {
+            index.addDichotomyStepResult(step.stepValue(), step.toDichotomyStepResult());
+            indexStrategy.precisionReached(index);
+        });
+    }
+
+    /**
+     * Asynchronous version of {@link #run(Network)}. Validations of dichotomy steps are performed on the given
+     * executor and no thread is blocked while waiting for them, so that many dichotomies can be driven by a small
+     * number of threads.
+     *
+     * <p>Cancelling the returned future stops the dichotomy: validations already started are completed, but no
+     * new step is launched. Network variants are cleaned up once running validations are over.</p>
+     *
+     * <p>If the executor rejects the validations, the returned future is completed exceptionally with the
+     * {@link RejectedExecutionException} once the validations already launched are over.</p>
+     *
+     * <p>Coarse validation is not available for asynchronous runs.</p>
+     */
+    public CompletableFuture<DichotomyResult<T>> runAsync(final Network network, final Executor executor) {
+        return runAsync(network, executor, () -> { });
+    }
 
-        if (iterationCounter == maxIteration) {
+    /**
+     * Same as {@link #runAsync(Network, Executor)}, notifying the end of the run.
+     *
+     * @param onRunStopped called once the run no longer uses the network: its variants are cleaned up and no
+     *                     validation is running anymore. When the returned future is cancelled, this happens only once
+     *                     the running validations are over.
+     */
+    public CompletableFuture<DichotomyResult<T>> runAsync(final Network network, final Executor executor, final Runnable onRunStopped) {
+        return runAsync(network, executor, null, onRunStopped);
+    }
+
+    /**
+     * Same as {@link #runAsync(Network, Executor, Runnable)}, notifying the progress of this run only to the given
+     * listener, in addition to the listeners of the engine.
+     *
+     * @param runListener listener of this run, may be null
+     */
+    public CompletableFuture<DichotomyResult<T>> runAsync(final Network network, final Executor executor, final DichotomyListener runListener,
+                                                          final Runnable onRunStopped) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(onRunStopped);
+        if (options.coarseNetworkValidator() != null) {
+            throw new DichotomyException("Coarse validation is not available for asynchronous dichotomy runs.");
+        }
+        final String initialVariant = network.getVariantManager().getWorkingVariantId();
+        final boolean multiThreadAccessEnabled = enableVariantMultiThreadAccess(network, initialVariant);
+        final List<DichotomyListener> runListeners = runListener == null
+            ? options.listeners()
+            : Stream.concat(options.listeners().stream(), Stream.of(runListener)).toList();
+        final AsyncDichotomyRun asyncRun = new AsyncDichotomyRun(network, initialVariant, executor, multiThreadAccessEnabled, runListeners, onRunStopped);
+        try {
+            executor.execute(asyncRun::runNextIteration);
+        } catch (final RejectedExecutionException e) {
+            asyncRun.fail(e);
+        }
+        return asyncRun.result;
+    }
+
+    private List<Double> nextStepValues() {
+        return options.parallelism() > 1
+            ? indexStrategy.nextValues(index, options.parallelism())
+            : List.of(indexStrategy.nextValue(index));
+    }
+
+    /**
+     * Discards the pre-shifted steps that have not been chosen, then starts shifting the candidate values that could
+     * follow the given step value, one for each possible outcome of its validation.
+     */
+    private void preShiftCandidateNextValues(final double stepValue, final SpeculativeShifts speculativeShifts) {
+        speculativeShifts.retainOnly(stepValue);
+        try {
+            final List<Double> candidateNextValues = Stream.of(ReasonInvalid.NONE, ReasonInvalid.UNSECURE_AFTER_VALIDATION)
+                .map(reasonInvalid -> indexStrategy.anticipateNextValue(index, stepValue, DichotomyStepResult.<T>fromSummary(reasonInvalid, "Anticipated step result")))
+                .filter(OptionalDouble::isPresent)
+                .map(OptionalDouble::getAsDouble)
+                .toList();
+            speculativeShifts.preShift(candidateNextValues);
+        } catch (final RuntimeException e) {
+            BUSINESS_WARNS.warn(String.format("Next step values could not be anticipated after step value %s", Formatter.formatDoubleDecimals(stepValue)), e);
+        }
+    }
+
+    private DichotomyResult<T> buildFinalResult(final int iterationCounter) {
+        if (iterationCounter == maxIteration && !indexStrategy.precisionReached(index)) {
             BUSINESS_WARNS.warn("Max number of iteration {} reached during dichotomy, research precision has not been reached.", maxIteration);
+        } else {
+            deleteCheckpoint();
+        }
+        final DichotomyResult<T> dichotomyResult = DichotomyResult.buildFromIndex(index);
+        if (dichotomyResult.hasSummaryStep()) {
+            BUSINESS_WARNS.warn("Dichotomy bracket holds steps restored from a checkpoint, their RAO results are not available.");
+        }
+        return dichotomyResult;
+    }
+
+    /**
+     * Parallel validations need each thread to work on its own variant of the network.
+     *
+     * @return true if multi-thread access had to be enabled, so that it could be disabled back at the end of the run
+     */
+    private static boolean enableVariantMultiThreadAccess(final Network network, final String initialVariant) {
+        final VariantManager variantManager = network.getVariantManager();
+        if (variantManager.isVariantMultiThreadAccessAllowed()) {
+            return false;
         }
-        return DichotomyResult.buildFromIndex(index);
+        variantManager.allowVariantMultiThreadAccess(true);
+        variantManager.setWorkingVariant(initialVariant);
+        return true;
+    }
+
+    private static void disableVariantMultiThreadAccess(final Network network, final String initialVariant) {
+        network.getVariantManager().allowVariantMultiThreadAccess(false);
+        network.getVariantManager().setWorkingVariant(initialVariant);
+    }
+
+    /**
+     * Validates all step values of a dichotomy round. When an executor is provided, validations are performed
+     * concurrently, each one on its own network variant.
+     */
+    private List<Pair<Double, DichotomyStepResult<T>>> validateAll(final List<Double> stepValues,
+                                                                   final RunVariants runVariants,
+                                                                   final SpeculativeShifts speculativeShifts,
+                                                                   final DichotomyStepResult<T> lastDichotomyStepResult,
+                                                                   final ExecutorService executor) throws RaoFailureException {
+        stepValues.forEach(stepValue -> BUSINESS_LOGS.info(String.format("Next dichotomy step: %s", Formatter.formatDoubleDecimals(stepValue))));
+        final List<Pair<Double, DichotomyStepResult<T>>> stepResults = new ArrayList<>(stepValues.size());
+        if (executor == null || stepValues.size() == 1) {
+            for (final double stepValue : stepValues) {
+                final DichotomyStepResult<T> stepResult = validate(stepValue, runVariants, speculativeShifts, lastDichotomyStepResult, options.listeners());
+                logDichotomyStepResult(stepResult, stepValue);
+                stepResults.add(Pair.of(stepValue, stepResult));
+            }
+            return stepResults;
+        }
+
+        final List<Future<DichotomyStepResult<T>>> futures = stepValues.stream()
+            .map(stepValue -> executor.submit(() -> validate(stepValue, runVariants, null, lastDichotomyStepResult, options.listeners())))
+            .toList();
+        RaoFailureException raoFailure = null;
+        for (int i = 0; i < stepValues.size(); i++) {
+            final double stepValue = stepValues.get(i);
+            try {
+                final DichotomyStepResult<T> stepResult = futures.get(i).get();
+                logDichotomyStepResult(stepResult, stepValue);
+                stepResults.add(Pair.of(stepValue, stepResult));
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RaoFailureException raoFailureException) {
+                    raoFailure = raoFailure == null ? raoFailureException : raoFailure;
+                } else {
+                    throw new DichotomyException(String.format("Validation of step value %s failed unexpectedly", Formatter.formatDoubleDecimals(stepValue)), e.getCause());
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DichotomyException("Dichotomy run has been interrupted while waiting for step validations", e);
+            }
+        }
+        if (raoFailure != null) {
+            throw raoFailure;
+        }
+        return stepResults;
+    }
+
+    /**
+     * Adds the results of a dichotomy round to the index, in an order that keeps it consistent: secure steps by
+     * increasing value, then invalid steps by decreasing value. Secure steps found above an unsecure step of the same
+     * round are ignored, as a sequential dichotomy would never have tested them.
+     *
+     * @param completedIterations number of iterations completed by the run once these results are added
+     * @return true if one of the validations has been interrupted
+     */
+    private boolean addDichotomyStepResults(final List<Pair<Double, DichotomyStepResult<T>>> stepResults, final int completedIterations) {
+        final boolean interrupted = stepResults.stream()
+            .anyMatch(stepResult -> stepResult.getRight().getReasonInvalid() == ReasonInvalid.RAO_INTERRUPTION);
+        final double lowestUnsecureValue = stepResults.stream()
+            .filter(stepResult -> stepResult.getRight().getReasonInvalid() == ReasonInvalid.UNSECURE_AFTER_VALIDATION)
+            .mapToDouble(Pair::getLeft)
+            .min()
+            .orElse(Double.POSITIVE_INFINITY);
+
+        stepResults.stream()
+            .filter(stepResult -> stepResult.getRight().isValid())
+            .sorted(Comparator.comparingDouble(Pair::getLeft))
+            .forEach(stepResult -> {
+                if (stepResult.getLeft() > lowestUnsecureValue) {
+                    BUSINESS_WARNS.warn(String.format("Network at dichotomy step %s is secure but a lower step is unsecure, this step is ignored",
+                        Formatter.formatDoubleDecimals(stepResult.getLeft())));
+                } else {
+                    index.addDichotomyStepResult(stepResult.getLeft(), stepResult.getRight());
+                }
+            });
+        stepResults.stream()
+            .filter(stepResult -> !stepResult.getRight().isValid() && stepResult.getRight().getReasonInvalid() != ReasonInvalid.RAO_INTERRUPTION)
+            .sorted(Comparator.comparingDouble((Pair<Double, DichotomyStepResult<T>> stepResult) -> stepResult.getLeft()).reversed())
+            .forEach(stepResult -> index.addDichotomyStepResult(stepResult.getLeft(), stepResult.getRight()));
+        saveCheckpoint(completedIterations);
+        return interrupted;
+    }
+
+    private void saveCheckpoint(final int completedIterations) {
+        if (options.checkpointStore() != null) {
+            try {
+                options.checkpointStore().save(DichotomyCheckpoint.fromIndex(runId, index, completedIterations));
+            } catch (final DichotomyException e) {
+                BUSINESS_WARNS.warn(String.format("Checkpoint of dichotomy run %s could not be saved", runId), e);
+            }
+        }
+    }
+
+    /**
+     * A completed run is not to be resumed, so its checkpoint is deleted.
+     */
+    private void deleteCheckpoint() {
+        if (options.checkpointStore() != null) {
+            try {
+                options.checkpointStore().delete(runId);
+            } catch (final DichotomyException e) {
+                BUSINESS_WARNS.warn(String.format("Checkpoint of dichotomy run %s could not be deleted", runId), e);
+            }
+        }
+    }
+
+    /**
+     * @param dichotomyResult result of the run, null if it failed with an exception
+     */
+    private void commitRunEvent(final DichotomyRunEvent runEvent, final DichotomyResult<T> dichotomyResult) {
+        runEvent.end();
+        if (runEvent.shouldCommit()) {
+            runEvent.runId = runId;
+            runEvent.testedSteps = index.testedStepsCount();
+            if (dichotomyResult != null) {
+                runEvent.highestValidStepValue = dichotomyResult.getHighestValidStepValue();
+                runEvent.lowestInvalidStepValue = dichotomyResult.getLowestInvalidStepValue();
+                runEvent.limitingCause = dichotomyResult.getLimitingCause() == null ? null : dichotomyResult.getLimitingCause().name();
+                runEvent.interrupted = dichotomyResult.isInterrupted();
+                runEvent.raoFailed = dichotomyResult.isRaoFailed();
+            }
+            runEvent.commit();
+        }
+    }
+
+    private DichotomyResult<T> buildTimeBudgetResult(final TimeBudget runTimeBudget) {
+        BUSINESS_WARNS.warn("Time budget of {} ms reached after {} ms, dichotomy stopped before reaching research precision.",
+            options.timeBudget().toMillis(), Duration.ofNanos(runTimeBudget.elapsedNanos()).toMillis());
+        return DichotomyResult.buildFromTimeBudget(index);
     }
 
     private DichotomyResult<T> buildInterruptedResult() {
@@ -112,7 +518,29 @@ public class DichotomyEngine<T> {
     }
 
     private DichotomyStepResult<T> getLastDichotomyStepResult() {
-        return !index.testedSteps().isEmpty() ? index.testedSteps().getLast().getRight() : null;
+        return index.lastStepResult();
+    }
+
+    /**
+     * @return the result of the tested step given to the validator of the given step value, according to the
+     * {@link ValidatorWarmStart} of the engine. The last step result is used when the bracket has no suitable step yet.
+     */
+    private DichotomyStepResult<T> warmStartStepResult(final double stepValue, final DichotomyStepResult<T> lastDichotomyStepResult) {
+        final Pair<Double, DichotomyStepResult<T>> highestValidStep = index.highestValidStep();
+        final Pair<Double, DichotomyStepResult<T>> lowestInvalidStep = index.lowestInvalidStep();
+        final Pair<Double, DichotomyStepResult<T>> warmStartStep = switch (options.validatorWarmStart()) {
+            case LAST_STEP -> null;
+            case HIGHEST_VALID_STEP -> highestValidStep;
+            case CLOSEST_BRACKET_STEP -> {
+                if (lowestInvalidStep == null || lowestInvalidStep.getRight().isFailed()) {
+                    yield highestValidStep != null ? highestValidStep : lowestInvalidStep;
+                } else if (highestValidStep == null) {
+                    yield lowestInvalidStep;
+                }
+                yield Math.abs(stepValue - highestValidStep.getLeft()) <= Math.abs(lowestInvalidStep.getLeft() - stepValue) ? highestValidStep : lowestInvalidStep;
+            }
+        };
+        return warmStartStep != null ? warmStartStep.getRight() : lastDichotomyStepResult;
     }
 
     private static <T> void logDichotomyStepResult(final DichotomyStepResult<T> dichotomyStepResult, final double nextValue) {
@@ -127,13 +555,66 @@ public class DichotomyEngine<T> {
 
     DichotomyStepResult<T> validate(final double stepValue, final Network network,
                                     final String initialVariant, final DichotomyStepResult<T> lastDichotomyStepResult) throws RaoFailureException {
-        final String newVariant = variantName(stepValue, initialVariant);
-        network.getVariantManager().cloneVariant(initialVariant, newVariant);
+        try (RunVariants runVariants = new RunVariants(network, initialVariant, false)) {
+            return validate(stepValue, runVariants, null, lastDichotomyStepResult, options.listeners());
+        }
+    }
+
+    private DichotomyStepResult<T> validate(final double stepValue, final RunVariants runVariants, final SpeculativeShifts speculativeShifts,
+                                            final DichotomyStepResult<T> lastDichotomyStepResult, final List<DichotomyListener> listeners) throws RaoFailureException {
+        notifyListeners(listeners, listener -> listener.onStepStarted(stepValue));
+        final DichotomyStepEvent stepEvent = new DichotomyStepEvent();
+        stepEvent.begin();
+        final long stepStartNanos = System.nanoTime();
+        DichotomyStepResult<T> stepResult = null;
+        try {
+            stepResult = validateStep(stepValue, runVariants, speculativeShifts, lastDichotomyStepResult, listeners);
+            return stepResult;
+        } finally {
+            stepEvent.end();
+            if (stepEvent.shouldCommit()) {
+                stepEvent.runId = runId;
+                stepEvent.stepValue = stepValue;
+                stepEvent.reasonInvalid = stepResult == null ? null : stepResult.getReasonInvalid().name();
+                stepEvent.commit();
+            }
+            final DichotomyStepResult<T> finishedStepResult = stepResult;
+            final long stepDurationNanos = System.nanoTime() - stepStartNanos;
+            notifyListeners(listeners, listener -> listener.onStepFinished(stepValue, finishedStepResult, stepDurationNanos));
+        }
+    }
+
+    private DichotomyStepResult<T> validateStep(final double stepValue, final RunVariants runVariants, final SpeculativeShifts speculativeShifts,
+                                                final DichotomyStepResult<T> lastDichotomyStepResult, final List<DichotomyListener> listeners) throws RaoFailureException {
+        final Network network = runVariants.network();
+        long phaseStartNanos = System.nanoTime();
+        final SpeculativeShifts.PreShiftedStep preShiftedStep = speculativeShifts != null ? speculativeShifts.take(stepValue) : null;
+        final Map.Entry<Double, String> shiftedVariant = options.incrementalShift() ? runVariants.closestShiftedVariant(stepValue) : null;
+        final String newVariant;
+        if (preShiftedStep != null) {
+            newVariant = preShiftedStep.stepVariant();
+        } else {
+            newVariant = runVariants.createStepVariant(stepValue, shiftedVariant != null ? shiftedVariant.getValue() : runVariants.initialVariant());
+        }
+        phaseStartNanos = phaseCompleted(listeners, stepValue, DichotomyPhase.VARIANT_CLONE, phaseStartNanos);
         network.getVariantManager().setWorkingVariant(newVariant);
         final String formattedStepValueForLogs = Formatter.formatDoubleDecimals(stepValue);
+        String shiftedVariantCopy = null;
+        boolean validated = false;
         try {
-            networkShifter.shiftNetwork(stepValue, network);
-            return networkValidator.validateNetwork(network, lastDichotomyStepResult);
+            if (preShiftedStep != null) {
+                preShiftedStep.rethrowShiftFailure();
+            } else {
+                shiftNetwork(stepValue, shiftedVariant, runVariants, newVariant);
+            }
+            if (options.incrementalShift()) {
+                shiftedVariantCopy = runVariants.copyShiftedVariant(stepValue, newVariant);
+            }
+            phaseStartNanos = phaseCompleted(listeners, stepValue, DichotomyPhase.NETWORK_SHIFT, phaseStartNanos);
+            final DichotomyStepResult<T> stepResult = validateNetwork(stepValue, network, warmStartStepResult(stepValue, lastDichotomyStepResult));
+            validated = true;
+            phaseCompleted(listeners, stepValue, DichotomyPhase.NETWORK_VALIDATION, phaseStartNanos);
+            return stepResult;
         } catch (final GlskLimitationException e) {
             BUSINESS_WARNS.warn(String.format("GLSK limits have been reached for step value %s", formattedStepValueForLogs));
             return DichotomyStepResult.fromFailure(ReasonInvalid.GLSK_LIMITATION, e.getMessage());
@@ -146,8 +627,98 @@ public class DichotomyEngine<T> {
             BUSINESS_WARNS.warn(String.format("RAO interrupted during step value %s", formattedStepValueForLogs));
             return DichotomyStepResult.fromFailure(ReasonInvalid.RAO_INTERRUPTION, e.getMessage());
         } finally {
-            network.getVariantManager().setWorkingVariant(initialVariant);
-            network.getVariantManager().removeVariant(newVariant);
+            final long removalStartNanos = System.nanoTime();
+            runVariants.releaseStepVariant(newVariant);
+            if (shiftedVariantCopy != null) {
+                if (validated) {
+                    runVariants.retainShiftedVariant(stepValue, shiftedVariantCopy);
+                } else {
+                    runVariants.releaseShiftedVariant(shiftedVariantCopy);
+                }
+            }
+            phaseCompleted(listeners, stepValue, DichotomyPhase.VARIANT_REMOVAL, removalStartNanos);
+        }
+    }
+
+    /**
+     * Shifts the working variant of the step, which is a copy of the given shifted variant if any, of the initial
+     * variant otherwise.
+     */
+    private void shiftNetwork(final double stepValue, final Map.Entry<Double, String> shiftedVariant,
+                              final RunVariants runVariants, final String stepVariant) throws GlskLimitationException, ShiftingException {
+        final Network network = runVariants.network();
+        if (shiftedVariant == null) {
+            networkShifter.shiftNetwork(stepValue, network);
+        } else {
+            try {
+                ((IncrementalNetworkShifter) networkShifter).shiftNetworkIncrementally(shiftedVariant.getKey(), stepValue, network);
+            } catch (final GlskLimitationException e) {
+                BUSINESS_WARNS.warn(String.format("GLSK limits have been reached when shifting incrementally from step value %s, full shift is performed for step value %s",
+                    Formatter.formatDoubleDecimals(shiftedVariant.getKey()), Formatter.formatDoubleDecimals(stepValue)));
+                runVariants.resetStepVariant(stepVariant);
+                networkShifter.shiftNetwork(stepValue, network);
+            }
+        }
+    }
+
+    /**
+     * Only shifted variants of the current bracket are retained in incremental mode, as the following steps are all
+     * within the bracket.
+     */
+    private void retainBracketShiftedVariants(final RunVariants runVariants) {
+        if (options.incrementalShift()) {
+            final List<Double> bracketStepValues = new ArrayList<>(2);
+            if (index.highestValidStep() != null) {
+                bracketStepValues.add(index.highestValidStep().getLeft());
+            }
+            if (index.lowestInvalidStep() != null) {
+                bracketStepValues.add(index.lowestInvalidStep().getLeft());
+            }
+            runVariants.retainOnlyShiftedVariants(bracketStepValues);
+        }
+    }
+
+    private DichotomyStepResult<T> validateNetwork(final double stepValue, final Network network, final DichotomyStepResult<T> lastDichotomyStepResult)
+        throws ValidationException, RaoFailureException, RaoInterruptionException {
+        final NetworkValidationEvent validationEvent = new NetworkValidationEvent();
+        validationEvent.begin();
+        DichotomyStepResult<T> stepResult = null;
+        try {
+            stepResult = networkValidator.validateNetwork(network, lastDichotomyStepResult);
+            return stepResult;
+        } finally {
+            validationEvent.end();
+            if (validationEvent.shouldCommit()) {
+                validationEvent.runId = runId;
+                validationEvent.stepValue = stepValue;
+                validationEvent.reasonInvalid = stepResult == null ? null : stepResult.getReasonInvalid().name();
+                validationEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * @return the end time of the phase, to be used as start time of the next one
+     */
+    private long phaseCompleted(final List<DichotomyListener> listeners, final double stepValue, final DichotomyPhase phase, final long phaseStartNanos) {
+        final long phaseEndNanos = System.nanoTime();
+        notifyListeners(listeners, listener -> listener.onPhaseCompleted(stepValue, phase, phaseEndNanos - phaseStartNanos));
+        return phaseEndNanos;
+    }
+
+    private void notifyIterationCompleted(final List<DichotomyListener> listeners, final int iteration) {
+        final double highestValidStepValue = index.highestValidStep() != null ? index.highestValidStep().getLeft() : Double.NaN;
+        final double lowestInvalidStepValue = index.lowestInvalidStep() != null ? index.lowestInvalidStep().getLeft() : Double.NaN;
+        notifyListeners(listeners, listener -> listener.onIterationCompleted(iteration, highestValidStepValue, lowestInvalidStepValue));
+    }
+
+    private static void notifyListeners(final List<DichotomyListener> listeners, final Consumer<DichotomyListener> notification) {
+        for (final DichotomyListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (final RuntimeException e) {
+                BUSINESS_WARNS.warn("Exception occurred while notifying dichotomy listener", e);
+            }
         }
     }
 
@@ -170,8 +741,144 @@ public class DichotomyEngine<T> {
         }
     }
 
-    private String variantName(final double stepValue, final String initialVariant) {
-        return String.format("%s-ScaledBy-%d", initialVariant, (int) stepValue);
+    /**
+     * State of a dichotomy run launched by {@link #runAsync(Network, Executor)}. Each iteration is triggered by the
+     * completion of the validations of the previous one.
+     */
+    private final class AsyncDichotomyRun {
+        private final CompletableFuture<DichotomyResult<T>> result = new CompletableFuture<>();
+        private final Network network;
+        private final String initialVariant;
+        private final Executor executor;
+        private final boolean multiThreadAccessEnabled;
+        private final List<DichotomyListener> listeners;
+        private final Runnable onRunStopped;
+        private final RunVariants runVariants;
+        private final TimeBudget runTimeBudget = TimeBudget.start(options.timeBudget(), options.nanoClock());
+        private final DichotomyRunEvent runEvent = new DichotomyRunEvent();
+        private int iterationCounter;
+        private boolean networkReleased;
+
+        private AsyncDichotomyRun(final Network network, final String initialVariant, final Executor executor, final boolean multiThreadAccessEnabled,
+                                  final List<DichotomyListener> listeners, final Runnable onRunStopped) {
+            this.network = network;
+            this.initialVariant = initialVariant;
+            this.executor = executor;
+            this.multiThreadAccessEnabled = multiThreadAccessEnabled;
+            this.listeners = listeners;
+            this.onRunStopped = onRunStopped;
+            this.runVariants = new RunVariants(network, initialVariant, options.variantReuse());
+            this.runEvent.begin();
+        }
+
+        private void runNextIteration() {
+            try {
+                if (result.isDone()) {
+                    terminate(null);
+                } else if (indexStrategy.precisionReached(index) || iterationCounter >= maxIteration) {
+                    terminate(buildFinalResult(iterationCounter));
+                } else if (interruptionStrategy != null && interruptionStrategy.shouldRunBeInterruptedSoftly(runId)) {
+                    terminate(buildInterruptedResult());
+                } else if (!runTimeBudget.allowsNextIteration()) {
+                    terminate(buildTimeBudgetResult(runTimeBudget));
+                } else {
+                    runTimeBudget.iterationStarted();
+                    final List<Double> nextValues = nextStepValues();
+                    final DichotomyStepResult<T> lastDichotomyStepResult = getLastDichotomyStepResult();
+                    nextValues.forEach(stepValue -> BUSINESS_LOGS.info(String.format("Next dichotomy step: %s", Formatter.formatDoubleDecimals(stepValue))));
+                    final List<CompletableFuture<DichotomyStepResult<T>>> futures = new ArrayList<>(nextValues.size());
+                    try {
+                        nextValues.forEach(stepValue -> futures.add(CompletableFuture.supplyAsync(() -> validateAsync(stepValue, lastDichotomyStepResult), executor)));
+                    } catch (final RejectedExecutionException e) {
+                        // Validations already launched use the network variants, which are released once they are over
+                        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                            .whenComplete((ignored, throwable) -> fail(e));
+                        return;
+                    }
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                        .whenComplete((ignored, throwable) -> onIterationCompleted(nextValues, futures, throwable));
+                }
+            } catch (final RuntimeException | Error e) {
+                fail(e);
+            }
+        }
+
+        private DichotomyStepResult<T> validateAsync(final double stepValue, final DichotomyStepResult<T> lastDichotomyStepResult) {
+            try {
+                return validate(stepValue, runVariants, null, lastDichotomyStepResult, listeners);
+            } catch (final RaoFailureException e) {
+                throw new CompletionException(e);
+            }
+        }
+
+        private void onIterationCompleted(final List<Double> stepValues,
+                                          final List<CompletableFuture<DichotomyStepResult<T>>> futures,
+                                          final Throwable throwable) {
+            if (result.isDone()) {
+                terminate(null);
+            } else if (throwable != null) {
+                final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                if (cause instanceof RaoFailureException) {
+                    terminate(DichotomyResult.buildFromRaoFailure(cause.getMessage()));
+                } else {
+                    fail(cause);
+                }
+            } else {
+                runTimeBudget.iterationCompleted();
+                try {
+                    final List<Pair<Double, DichotomyStepResult<T>>> stepResults = new ArrayList<>(stepValues.size());
+                    for (int i = 0; i < stepValues.size(); i++) {
+                        final DichotomyStepResult<T> stepResult = futures.get(i).join();
+                        logDichotomyStepResult(stepResult, stepValues.get(i));
+                        stepResults.add(Pair.of(stepValues.get(i), stepResult));
+                    }
+                    final boolean interrupted = addDichotomyStepResults(stepResults, iterationCounter + 1);
+                    retainBracketShiftedVariants(runVariants);
+                    if (interrupted) {
+                        terminate(buildInterruptedResult());
+                    } else {
+                        iterationCounter++;
+                        notifyIterationCompleted(listeners, iterationCounter);
+                        runNextIteration();
+                    }
+                } catch (final RuntimeException | Error e) {
+                    fail(e);
+                }
+            }
+        }
+
+        private void fail(final Throwable throwable) {
+            releaseNetwork();
+            commitRunEvent(runEvent, null);
+            result.completeExceptionally(throwable);
+        }
+
+        private void terminate(final DichotomyResult<T> dichotomyResult) {
+            releaseNetwork();
+            if (dichotomyResult != null) {
+                commitRunEvent(runEvent, dichotomyResult);
+                result.complete(dichotomyResult);
+            }
+        }
+
+        private void releaseNetwork() {
+            if (networkReleased) {
+                return;
+            }
+            networkReleased = true;
+            try {
+                runVariants.close();
+                if (multiThreadAccessEnabled) {
+                    disableVariantMultiThreadAccess(network, initialVariant);
+                }
+            } finally {
+                try {
+                    onRunStopped.run();
+                } catch (final RuntimeException e) {
+                    BUSINESS_WARNS.warn("Exception occurred while notifying the end of the dichotomy run", e);
+                }
+            }
+        }
     }
 
     public static <T> Builder<T> builder() {
@@ -187,6 +894,18 @@ public class DichotomyEngine<T> {
         private NetworkExporter networkExporter;
         private int maxIteration = DEFAULT_MAX_ITERATION_NUMBER;
         private String runId;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private CheckpointStore checkpointStore;
+        private Duration timeBudget;
+        private LongSupplier nanoClock = System::nanoTime;
+        private final List<DichotomyListener> listeners = new ArrayList<>();
+        private boolean variantReuse;
+        private boolean incrementalShift;
+        private boolean speculativeShift;
+        private NetworkValidator<T> coarseNetworkValidator;
+        private double coarsePrecision = Double.NaN;
+        private ValidatorWarmStart validatorWarmStart = ValidatorWarmStart.LAST_STEP;
+        private boolean lossyStepResults;
 
         private Builder() {
         }
@@ -231,8 +950,114 @@ public class DichotomyEngine<T> {
             return this;
         }
 
+        /**
+         * Number of step values validated concurrently at each iteration. Default value is 1 (sequential dichotomy).
+         */
+        public Builder<T> withParallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Store in which a checkpoint is saved after each iteration, so that an interrupted run can be resumed with
+         * {@link DichotomyEngine#resume(Network)}. The checkpoint is deleted once the precision is reached. Steps restored
+         * from a checkpoint only hold their validity summary. A run id is required when a store is defined.
+         */
+        public Builder<T> withCheckpointStore(final CheckpointStore checkpointStore) {
+            this.checkpointStore = checkpointStore;
+            return this;
+        }
+
+        /**
+         * Wall-clock duration after which the dichotomy is stopped, returning the current bracket with the
+         * {@link com.farao_community.farao.dichotomy.api.results.LimitingCause#TIME_BUDGET_REACHED} limiting cause. An
+         * iteration that is expected to exceed the budget is not started. No limit by default.
+         */
+        public Builder<T> withTimeBudget(final Duration timeBudget) {
+            this.timeBudget = timeBudget;
+            return this;
+        }
+
+        /**
+         * Registers a listener notified of the progress of each step. Several listeners can be registered.
+         */
+        public Builder<T> withListener(final DichotomyListener listener) {
+            this.listeners.add(Objects.requireNonNull(listener));
+            return this;
+        }
+
+        /**
+         * Validates steps on variants of a {@link VariantPool}, overwritten with the initial state between steps,
+         * instead of cloning and removing a variant for each step. Variant ids then no longer depend on the step value. Disabled by default.
+         */
+        public Builder<T> withVariantReuse(final boolean variantReuse) {
+            this.variantReuse = variantReuse;
+            return this;
+        }
+
+        /**
+         * Shifts the network of each step from the retained shifted variant of the closest step of the current
+         * bracket, applying only the difference of step values. The network shifter must implement
+         * {@link IncrementalNetworkShifter}. Retained variants are copies made before validation, one per bracket end,
+         * of steps whose validation succeeded. Disabled by default.
+         */
+        public Builder<T> withIncrementalShift(final boolean incrementalShift) {
+            this.incrementalShift = incrementalShift;
+            return this;
+        }
+
+        /**
+         * While a step is validated, shifts ahead of time, on spare threads, the two candidate next step values so that
+         * the next step is ready to be validated as soon as the current one is over. The index strategy must be able to
+         * anticipate its next value, see {@link IndexStrategy#anticipateNextValue}. Only available for sequential runs
+         * without incremental shift, and not used by {@link DichotomyEngine#runAsync(Network, Executor)}. Disabled by default.
+         */
+        public Builder<T> withSpeculativeShift(final boolean speculativeShift) {
+            this.speculativeShift = speculativeShift;
+            return this;
+        }
+
+        /**
+         * Validates steps with the given cheaper validator until the bracket is narrower than the coarse precision, then
+         * only with the network validator to reach the precision of the index. The final bracket is always made of
+         * steps validated by the network validator. The index strategy is used by both phases, the fine phase testing
+         * the ends of the coarse bracket before handing over to it, and the max number of iterations is shared by both
+         * phases. Not available with a time budget nor for asynchronous runs. Disabled by default.
+         */
+        public Builder<T> withCoarseValidation(final NetworkValidator<T> coarseNetworkValidator, final double coarsePrecision) {
+            this.coarseNetworkValidator = coarseNetworkValidator;
+            this.coarsePrecision = coarsePrecision;
+            return this;
+        }
+
+        /**
+         * Tested step whose result is given to the network validator of each new step, see {@link ValidatorWarmStart}.
+         * Default value is {@link ValidatorWarmStart#LAST_STEP}.
+         */
+        public Builder<T> withValidatorWarmStart(final ValidatorWarmStart validatorWarmStart) {
+            this.validatorWarmStart = validatorWarmStart;
+            return this;
+        }
+
+        /**
+         * Accepts an index whose step result store reloads step results without their RAO result, such as one using a
+         * {@link com.farao_community.farao.dichotomy.api.store.ValidationDataStepResultCodec}. RAO results of the steps
+         * written to the store are then lost for audit and export. Refused by default.
+         */
+        public Builder<T> withLossyStepResults(final boolean lossyStepResults) {
+            this.lossyStepResults = lossyStepResults;
+            return this;
+        }
+
+        Builder<T> withNanoClock(final LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
         public DichotomyEngine<T> build() {
-            return new DichotomyEngine<>(index, indexStrategy, interruptionStrategy, networkShifter, networkValidator, networkExporter, maxIteration, runId);
+            final DichotomyRunOptions<T> options = new DichotomyRunOptions<>(parallelism, checkpointStore, timeBudget, nanoClock, listeners, variantReuse,
+                incrementalShift, speculativeShift, coarseNetworkValidator, coarsePrecision, validatorWarmStart, lossyStepResults);
+            return new DichotomyEngine<>(index, indexStrategy, interruptionStrategy, networkShifter, networkValidator, networkExporter, maxIteration, runId, options);
         }
     }
 }
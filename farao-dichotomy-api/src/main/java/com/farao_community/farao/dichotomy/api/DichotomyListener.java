@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+/**
+ * Listener notified of the progress of each step and iteration of a dichotomy, for instance to feed metrics or tracing.
+ *
+ * <p>Step notifications are performed on the thread validating the step, so implementations must be thread-safe when the
+ * engine validates several steps concurrently. Exceptions thrown by a listener are logged and do not stop the
+ * dichotomy.</p>
+ */
+public interface DichotomyListener {
+
+    default void onStepStarted(double stepValue) {
+    }
+
+    /**
+     * Called when a phase of the step has completed without error.
+     */
+    default void onPhaseCompleted(double stepValue, DichotomyPhase phase, long durationNanos) {
+    }
+
+    /**
+     * Called at the end of each step, whatever its outcome.
+     *
+     * @param stepResult result of the step, null if its validation failed with an exception
+     * @param durationNanos total duration of the step
+     */
+    default void onStepFinished(double stepValue, DichotomyStepResult<?> stepResult, long durationNanos) {
+    }
+
+    /**
+     * Called at the end of each iteration, once its steps have been added to the index.
+     *
+     * @param iteration number of iterations completed by the run
+     * @param highestValidStepValue highest valid step value of the current bracket, NaN if there is none yet
+     * @param lowestInvalidStepValue lowest invalid step value of the current bracket, NaN if there is none yet
+     */
+    default void onIterationCompleted(int iteration, double highestValidStepValue, double lowestInvalidStepValue) {
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+/**
+ * Phases of the validation of a dichotomy step, as reported to {@link DichotomyListener}.
+ */
+public enum DichotomyPhase {
+    VARIANT_CLONE,
+    NETWORK_SHIFT,
+    NETWORK_VALIDATION,
+    VARIANT_REMOVAL
+}
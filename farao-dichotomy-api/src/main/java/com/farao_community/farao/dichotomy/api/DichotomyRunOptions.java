@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.farao_community.farao.dichotomy.api.checkpoint.CheckpointStore;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Options of the runs of a {@link DichotomyEngine}, as set by its {@link DichotomyEngine.Builder}.
+ */
+record DichotomyRunOptions<T>(int parallelism,
+                              CheckpointStore checkpointStore,
+                              Duration timeBudget,
+                              LongSupplier nanoClock,
+                              List<DichotomyListener> listeners,
+                              boolean variantReuse,
+                              boolean incrementalShift,
+                              boolean speculativeShift,
+                              NetworkValidator<T> coarseNetworkValidator,
+                              double coarsePrecision,
+                              ValidatorWarmStart validatorWarmStart,
+                              boolean lossyStepResults) {
+
+    DichotomyRunOptions {
+        Objects.requireNonNull(nanoClock);
+        listeners = List.copyOf(listeners);
+        Objects.requireNonNull(validatorWarmStart);
+    }
+
+    /**
+     * @return the options of a phase of a coarse to fine run, which has no coarse validation of its own
+     */
+    DichotomyRunOptions<T> forPhase(CheckpointStore phaseCheckpointStore) {
+        return new DichotomyRunOptions<>(parallelism, phaseCheckpointStore, timeBudget, nanoClock, listeners, variantReuse, incrementalShift,
+            speculativeShift, null, Double.NaN, validatorWarmStart, lossyStepResults);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.powsybl.iidm.network.Network;
+
+/**
+ * Network shifter able to shift a network that has already been shifted for another step value, by applying only the
+ * difference between both step values.
+ *
+ * <p>When such a shift raises a {@link GlskLimitationException}, the dichotomy engine performs a full shift from the
+ * initial network instead, as limitations reached from an intermediate state may differ.</p>
+ */
+public interface IncrementalNetworkShifter extends NetworkShifter {
+
+    void shiftNetworkIncrementally(double shiftedStepValue, double stepValue, Network network) throws GlskLimitationException, ShiftingException;
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Network variants used during a single dichotomy run: working variants of the steps, either cloned for each step or
+ * taken from a {@link VariantPool}, and, in incremental shift mode, shifted variants retained so that following steps
+ * could be shifted from them instead of from the initial variant.
+ *
+ * <p>Shifted variants are copies of the step variants made right after the shift, before the network validator runs,
+ * so that changes made by the validator on the working variant, such as applied remedial actions, are never carried
+ * over to the steps shifted from them.</p>
+ */
+final class RunVariants implements AutoCloseable {
+    private final Network network;
+    private final String initialVariant;
+    private final VariantPool variantPool;
+    private final NavigableMap<Double, String> shiftedVariants = new TreeMap<>();
+
+    RunVariants(final Network network, final String initialVariant, final boolean variantReuse) {
+        this.network = network;
+        this.initialVariant = initialVariant;
+        this.variantPool = variantReuse ? new VariantPool(network, initialVariant) : null;
+    }
+
+    Network network() {
+        return network;
+    }
+
+    String initialVariant() {
+        return initialVariant;
+    }
+
+    /**
+     * @return the id of the working variant of the step, copy of the source variant. Step variants are named after the
+     * full precision step value, so that concurrent steps of close values never share a variant.
+     */
+    String createStepVariant(final double stepValue, final String sourceVariant) {
+        if (variantPool != null) {
+            return variantPool.acquire(sourceVariant);
+        }
+        final String stepVariant = String.format("%s-ScaledBy-%s", initialVariant, BigDecimal.valueOf(stepValue).stripTrailingZeros().toPlainString());
+        final VariantManager variantManager = network.getVariantManager();
+        synchronized (variantManager) {
+            variantManager.cloneVariant(sourceVariant, stepVariant);
+        }
+        return stepVariant;
+    }
+
+    /**
+     * Resets the working variant of a step to the initial state.
+     */
+    void resetStepVariant(final String stepVariant) {
+        final VariantManager variantManager = network.getVariantManager();
+        variantManager.setWorkingVariant(initialVariant);
+        synchronized (variantManager) {
+            variantManager.cloneVariant(initialVariant, stepVariant, true);
+        }
+        variantManager.setWorkingVariant(stepVariant);
+    }
+
+    void releaseStepVariant(final String stepVariant) {
+        network.getVariantManager().setWorkingVariant(initialVariant);
+        releaseVariant(stepVariant);
+    }
+
+    private void releaseVariant(final String stepVariant) {
+        final VariantManager variantManager = network.getVariantManager();
+        if (variantPool != null) {
+            variantPool.release(stepVariant);
+        } else {
+            synchronized (variantManager) {
+                variantManager.removeVariant(stepVariant);
+            }
+        }
+    }
+
+    /**
+     * @return the retained shifted variant whose step value is the closest to the given one, null if there is none
+     */
+    Map.Entry<Double, String> closestShiftedVariant(final double stepValue) {
+        synchronized (shiftedVariants) {
+            final Map.Entry<Double, String> floor = shiftedVariants.floorEntry(stepValue);
+            final Map.Entry<Double, String> ceiling = shiftedVariants.ceilingEntry(stepValue);
+            if (floor == null || ceiling != null && ceiling.getKey() - stepValue < stepValue - floor.getKey()) {
+                return ceiling;
+            }
+            return floor;
+        }
+    }
+
+    /**
+     * @return the id of a copy of the working variant of a step, just shifted by the given step value, to be either
+     * retained or released once the step is over
+     */
+    String copyShiftedVariant(final double stepValue, final String stepVariant) {
+        if (variantPool != null) {
+            return variantPool.acquire(stepVariant);
+        }
+        final String shiftedVariant = String.format("%s-ShiftedBy-%s", initialVariant, BigDecimal.valueOf(stepValue).stripTrailingZeros().toPlainString());
+        final VariantManager variantManager = network.getVariantManager();
+        synchronized (variantManager) {
+            variantManager.cloneVariant(stepVariant, shiftedVariant, true);
+        }
+        return shiftedVariant;
+    }
+
+    void releaseShiftedVariant(final String shiftedVariant) {
+        releaseVariant(shiftedVariant);
+    }
+
+    /**
+     * Retains a copy of a step variant, shifted by the given step value, so that following steps can be shifted from
+     * it. The variant is released once it is no longer retained.
+     */
+    void retainShiftedVariant(final double stepValue, final String shiftedVariant) {
+        final String replacedVariant;
+        synchronized (shiftedVariants) {
+            replacedVariant = shiftedVariants.put(stepValue, shiftedVariant);
+        }
+        if (replacedVariant != null) {
+            releaseVariant(replacedVariant);
+        }
+    }
+
+    /**
+     * Removes the retained shifted variants whose step value is not in the given ones.
+     */
+    void retainOnlyShiftedVariants(final Collection<Double> stepValues) {
+        synchronized (shiftedVariants) {
+            shiftedVariants.entrySet().removeIf(shiftedVariant -> {
+                if (stepValues.contains(shiftedVariant.getKey())) {
+                    return false;
+                }
+                releaseVariant(shiftedVariant.getValue());
+                return true;
+            });
+        }
+    }
+
+    int shiftedVariantsCount() {
+        synchronized (shiftedVariants) {
+            return shiftedVariants.size();
+        }
+    }
+
+    @Override
+    public void close() {
+        retainOnlyShiftedVariants(List.of());
+        if (variantPool != null) {
+            variantPool.close();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.utils.Formatter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_WARNS;
+
+/**
+ * Steps shifted ahead of time during a sequential dichotomy run. While a step is validated, the candidate next step
+ * values are shifted on variants of their own by spare threads, so that the step finally chosen is ready to be
+ * validated as soon as it is known. Pre-shifted steps that are not chosen are discarded.
+ */
+final class SpeculativeShifts implements AutoCloseable {
+    private final RunVariants runVariants;
+    private final NetworkShifter networkShifter;
+    private final ExecutorService executor;
+    private final Map<Double, Future<PreShiftedStep>> preShiftedSteps = new HashMap<>();
+
+    SpeculativeShifts(final RunVariants runVariants, final NetworkShifter networkShifter, final int threadsCount) {
+        this.runVariants = runVariants;
+        this.networkShifter = networkShifter;
+        this.executor = Executors.newFixedThreadPool(threadsCount);
+    }
+
+    /**
+     * Starts shifting the given step values, unless they are already pre-shifted.
+     */
+    void preShift(final Collection<Double> stepValues) {
+        stepValues.stream()
+            .filter(stepValue -> find(stepValue) == null)
+            .forEach(stepValue -> preShiftedSteps.put(stepValue, executor.submit(() -> shift(stepValue))));
+    }
+
+    /**
+     * Takes the pre-shifted step of the given value, waiting for its shift to be over.
+     *
+     * @return the pre-shifted step, null if the given value has not been pre-shifted or if it could not be
+     */
+    PreShiftedStep take(final double stepValue) {
+        final Double preShiftedValue = find(stepValue);
+        if (preShiftedValue == null) {
+            return null;
+        }
+        try {
+            return preShiftedSteps.remove(preShiftedValue).get();
+        } catch (final ExecutionException e) {
+            BUSINESS_WARNS.warn(String.format("Network could not be shifted ahead of time for step value %s", Formatter.formatDoubleDecimals(stepValue)), e.getCause());
+            return null;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DichotomyException("Dichotomy run has been interrupted while waiting for a network shift", e);
+        }
+    }
+
+    /**
+     * Discards all pre-shifted steps but the one of the given value, once their shift is over.
+     */
+    void retainOnly(final double stepValue) {
+        final Double retainedValue = find(stepValue);
+        final Iterator<Map.Entry<Double, Future<PreShiftedStep>>> iterator = preShiftedSteps.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Double, Future<PreShiftedStep>> preShiftedStep = iterator.next();
+            if (!preShiftedStep.getKey().equals(retainedValue)) {
+                iterator.remove();
+                discard(preShiftedStep.getValue());
+            }
+        }
+    }
+
+    int size() {
+        return preShiftedSteps.size();
+    }
+
+    private Double find(final double stepValue) {
+        return preShiftedSteps.keySet().stream()
+            .filter(preShiftedValue -> Math.abs(preShiftedValue - stepValue) < Index.EPSILON)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private PreShiftedStep shift(final double stepValue) {
+        final String stepVariant = runVariants.createStepVariant(stepValue, runVariants.initialVariant());
+        runVariants.network().getVariantManager().setWorkingVariant(stepVariant);
+        try {
+            networkShifter.shiftNetwork(stepValue, runVariants.network());
+            return new PreShiftedStep(stepVariant, null);
+        } catch (final GlskLimitationException | ShiftingException | RuntimeException e) {
+            return new PreShiftedStep(stepVariant, e);
+        }
+    }
+
+    private void discard(final Future<PreShiftedStep> preShiftedStep) {
+        try {
+            runVariants.releaseStepVariant(preShiftedStep.get().stepVariant());
+        } catch (final ExecutionException e) {
+            // Variant could not be created, so there is nothing to release
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DichotomyException("Dichotomy run has been interrupted while waiting for a network shift", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            retainOnly(Double.NaN);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Step variant shifted ahead of time, along with the exception thrown by the shift if it failed.
+     */
+    record PreShiftedStep(String stepVariant, Exception shiftFailure) {
+
+        void rethrowShiftFailure() throws GlskLimitationException, ShiftingException {
+            if (shiftFailure instanceof GlskLimitationException glskLimitationException) {
+                throw glskLimitationException;
+            } else if (shiftFailure instanceof ShiftingException shiftingException) {
+                throw shiftingException;
+            } else if (shiftFailure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+        }
+    }
+}
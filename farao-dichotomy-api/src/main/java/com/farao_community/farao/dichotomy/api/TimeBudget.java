@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Wall-clock budget of a single dichotomy run.
+ *
+ * <p>The duration of the next iteration is estimated as the greatest of the mean and the last observed iteration
+ * durations, so that a run slowing down is stopped early enough. No estimation is possible before the first
+ * iteration, which is thus allowed as long as the budget is not already exhausted.</p>
+ */
+final class TimeBudget {
+    private final long budgetNanos;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private long iterationStartNanos;
+    private long totalIterationsNanos;
+    private long lastIterationNanos;
+    private int iterationsCount;
+
+    private TimeBudget(final long budgetNanos, final LongSupplier nanoClock) {
+        this.budgetNanos = budgetNanos;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @param budget maximum duration of the run, null for an unlimited run
+     */
+    static TimeBudget start(final Duration budget, final LongSupplier nanoClock) {
+        return new TimeBudget(budget == null ? Long.MAX_VALUE : budget.toNanos(), nanoClock);
+    }
+
+    boolean isUnlimited() {
+        return budgetNanos == Long.MAX_VALUE;
+    }
+
+    void iterationStarted() {
+        iterationStartNanos = nanoClock.getAsLong();
+    }
+
+    void iterationCompleted() {
+        lastIterationNanos = nanoClock.getAsLong() - iterationStartNanos;
+        totalIterationsNanos += lastIterationNanos;
+        iterationsCount++;
+    }
+
+    /**
+     * @return true if the next iteration is expected to end before the budget is exhausted
+     */
+    boolean allowsNextIteration() {
+        if (isUnlimited()) {
+            return true;
+        }
+        final long estimatedIterationNanos = iterationsCount == 0 ? 0 : Math.max(totalIterationsNanos / iterationsCount, lastIterationNanos);
+        return elapsedNanos() + estimatedIterationNanos <= budgetNanos;
+    }
+
+    long elapsedNanos() {
+        return nanoClock.getAsLong() - startNanos;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.powsybl.iidm.network.Network;
+
+/**
+ * Network shifter driven by the exchanges over two borders at once, instead of a single step value.
+ */
+public interface TwoDimensionalNetworkShifter {
+
+    void shiftNetwork(double exchangeA, double exchangeB, Network network) throws GlskLimitationException, ShiftingException;
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+/**
+ * Tested step whose result is given to the {@link NetworkValidator} along with the network of a new step, for
+ * instance to initialise range actions and topology of the RAO from the most similar network.
+ */
+public enum ValidatorWarmStart {
+    /**
+     * Result of the last tested step, which may be the far end of the bracket.
+     */
+    LAST_STEP,
+    /**
+     * Result of the end of the current bracket, highest valid step or lowest invalid step, that is the closest to the
+     * new step value. A failed step, for instance on GLSK limitation, is only used when no other step is available.
+     */
+    CLOSEST_BRACKET_STEP,
+    /**
+     * Result of the highest valid step, so that the validator always starts from a secure network.
+     */
+    HIGHEST_VALID_STEP
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Pool of working variants of a network, all of them being copies of a same initial variant.
+ *
+ * <p>Instead of cloning a new variant and removing it for each dichotomy step, a worker acquires a variant of the pool
+ * and releases it for the next step. A reused variant is overwritten with the state of the source variant, which is
+ * still a full copy of the variant data of every network element: the only saving over a new clone is that the
+ * variant arrays of the network are neither extended nor shrunk between steps. At most one variant per concurrent
+ * worker is ever created.</p>
+ *
+ * <p>This class is thread-safe. Variants are removed from the network when the pool is closed.</p>
+ */
+public final class VariantPool implements AutoCloseable {
+    private final Network network;
+    private final String initialVariant;
+    private final Deque<String> availableVariants = new ConcurrentLinkedDeque<>();
+    private final List<String> createdVariants = new ArrayList<>();
+
+    public VariantPool(Network network, String initialVariant) {
+        this.network = network;
+        this.initialVariant = initialVariant;
+    }
+
+    /**
+     * @return the id of a variant in the same state as the initial variant, reserved until it is released
+     */
+    public String acquire() {
+        return acquire(initialVariant);
+    }
+
+    /**
+     * @param sourceVariant variant whose state is copied in the acquired variant
+     * @return the id of a variant in the same state as the source variant, reserved until it is released
+     */
+    public String acquire(String sourceVariant) {
+        final VariantManager variantManager = network.getVariantManager();
+        String variant = availableVariants.pollFirst();
+        synchronized (variantManager) {
+            if (variant == null) {
+                variant = String.format("%s-DichotomyWorker-%d", initialVariant, createdVariants.size());
+                createdVariants.add(variant);
+                variantManager.cloneVariant(sourceVariant, variant);
+            } else {
+                variantManager.cloneVariant(sourceVariant, variant, true);
+            }
+        }
+        return variant;
+    }
+
+    public void release(String variant) {
+        availableVariants.addFirst(variant);
+    }
+
+    public int size() {
+        synchronized (network.getVariantManager()) {
+            return createdVariants.size();
+        }
+    }
+
+    @Override
+    public void close() {
+        final VariantManager variantManager = network.getVariantManager();
+        synchronized (variantManager) {
+            createdVariants.forEach(variantManager::removeVariant);
+            createdVariants.clear();
+        }
+        availableVariants.clear();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.batch;
+
+import com.farao_community.farao.dichotomy.api.DichotomyListener;
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.powsybl.iidm.network.Network;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_LOGS;
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_WARNS;
+
+/**
+ * Jobs submitted together to a {@link DichotomyBatchRunner}. It gives access to the progress of each job, that is its
+ * status, its iteration count and its current bracket, and to the results of the jobs in the order they complete.
+ *
+ * <p>Each job must have its own network: jobs run on a same network would create variants of the same names and
+ * reset the multi-thread access of each other.</p>
+ */
+public final class DichotomyBatch<T> {
+    private final Map<String, DichotomyJob<T>> jobs = new LinkedHashMap<>();
+    private final Map<String, CompletableFuture<DichotomyResult<T>>> results = new LinkedHashMap<>();
+    private final Map<String, DichotomyJobProgress> progresses = new ConcurrentHashMap<>();
+    private final BlockingQueue<DichotomyJobResult<T>> completedJobs = new LinkedBlockingQueue<>();
+    private final Queue<DichotomyJob<T>> queuedJobs = new ArrayDeque<>();
+    private final Executor executor;
+    private final int maxConcurrentJobs;
+    private int runningJobsCount;
+
+    DichotomyBatch(List<DichotomyJob<T>> jobs, Executor executor, int maxConcurrentJobs) {
+        final Set<Network> networks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DichotomyJob<T> job : jobs) {
+            if (this.jobs.putIfAbsent(job.jobId(), job) != null) {
+                throw new DichotomyException(String.format("Job identifier %s is used twice in the same dichotomy batch.", job.jobId()));
+            }
+            if (!networks.add(job.network())) {
+                throw new DichotomyException(String.format("Network of job %s is shared with another job of the same dichotomy batch.", job.jobId()));
+            }
+            this.results.put(job.jobId(), new CompletableFuture<>());
+            this.progresses.put(job.jobId(), DichotomyJobProgress.queued());
+            this.queuedJobs.add(job);
+        }
+        this.executor = executor;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    synchronized void start() {
+        while (runningJobsCount < maxConcurrentJobs && !queuedJobs.isEmpty()) {
+            final DichotomyJob<T> job = queuedJobs.poll();
+            final CompletableFuture<DichotomyResult<T>> result = results.get(job.jobId());
+            if (result.isCancelled()) {
+                onJobTerminated(job, null, new CancellationException());
+            } else {
+                runningJobsCount++;
+                setStatus(job.jobId(), DichotomyJobStatus.RUNNING);
+                BUSINESS_LOGS.info(String.format("Starting dichotomy job %s", job.jobId()));
+                final CompletableFuture<DichotomyResult<T>> engineResult;
+                try {
+                    engineResult = job.engine().runAsync(job.network(), executor, new JobProgressListener(job.jobId()), this::onJobStopped);
+                } catch (RuntimeException e) {
+                    runningJobsCount--;
+                    onJobTerminated(job, null, e);
+                    continue;
+                }
+                result.whenComplete((dichotomyResult, throwable) -> {
+                    if (result.isCancelled()) {
+                        engineResult.cancel(true);
+                    }
+                });
+                engineResult.whenComplete((dichotomyResult, throwable) -> onJobTerminated(job, dichotomyResult, throwable));
+            }
+        }
+    }
+
+    /**
+     * Frees the slot of a job once its run no longer uses the pool, which may happen after the job is cancelled.
+     */
+    private void onJobStopped() {
+        synchronized (this) {
+            runningJobsCount--;
+        }
+        start();
+    }
+
+    private void onJobTerminated(DichotomyJob<T> job, DichotomyResult<T> dichotomyResult, Throwable throwable) {
+        final Throwable failure = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        final DichotomyJobStatus status;
+        if (failure == null) {
+            status = DichotomyJobStatus.COMPLETED;
+            results.get(job.jobId()).complete(dichotomyResult);
+        } else if (failure instanceof CancellationException) {
+            status = DichotomyJobStatus.CANCELLED;
+            results.get(job.jobId()).cancel(false);
+        } else {
+            status = DichotomyJobStatus.FAILED;
+            BUSINESS_WARNS.warn(String.format("Dichotomy job %s failed: %s", job.jobId(), failure.getMessage()));
+            results.get(job.jobId()).completeExceptionally(failure);
+        }
+        setStatus(job.jobId(), status);
+        completedJobs.add(new DichotomyJobResult<>(job.jobId(), status, dichotomyResult, status == DichotomyJobStatus.FAILED ? failure : null));
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    public List<String> getJobIds() {
+        return List.copyOf(jobs.keySet());
+    }
+
+    public DichotomyJobStatus getStatus(String jobId) {
+        final DichotomyJobProgress progress = progresses.get(jobId);
+        return progress != null ? progress.status() : null;
+    }
+
+    public Map<String, DichotomyJobStatus> getStatuses() {
+        final Map<String, DichotomyJobStatus> statuses = new LinkedHashMap<>();
+        jobs.keySet().forEach(jobId -> statuses.put(jobId, getStatus(jobId)));
+        return Collections.unmodifiableMap(statuses);
+    }
+
+    /**
+     * @return the status of the job along with its iteration count and its current bracket
+     */
+    public DichotomyJobProgress getProgress(String jobId) {
+        return progresses.get(jobId);
+    }
+
+    public long getTerminatedJobsCount() {
+        return progresses.values().stream()
+            .map(DichotomyJobProgress::status)
+            .filter(status -> status != DichotomyJobStatus.QUEUED && status != DichotomyJobStatus.RUNNING)
+            .count();
+    }
+
+    public boolean isDone() {
+        return getTerminatedJobsCount() == jobs.size();
+    }
+
+    public CompletableFuture<DichotomyResult<T>> getResult(String jobId) {
+        return results.get(jobId);
+    }
+
+    /**
+     * Waits for the next job to terminate, in completion order. Each job is returned exactly once.
+     */
+    public DichotomyJobResult<T> takeTerminated() throws InterruptedException {
+        return completedJobs.take();
+    }
+
+    /**
+     * Waits for the next job to terminate, in completion order, at most for the given time.
+     *
+     * @return the next terminated job, or null if none terminated in time
+     */
+    public DichotomyJobResult<T> pollTerminated(long timeout, TimeUnit unit) throws InterruptedException {
+        return completedJobs.poll(timeout, unit);
+    }
+
+    private void setStatus(String jobId, DichotomyJobStatus status) {
+        progresses.computeIfPresent(jobId, (id, progress) -> progress.withStatus(status));
+    }
+
+    /**
+     * Cancels all the jobs that are not terminated yet. Queued jobs are never started and running ones stop once
+     * their current validations are over. The slots of running jobs are only given to other jobs at that time.
+     */
+    public void cancel() {
+        synchronized (this) {
+            DichotomyJob<T> job;
+            while ((job = queuedJobs.poll()) != null) {
+                onJobTerminated(job, null, new CancellationException());
+            }
+        }
+        results.values().forEach(result -> result.cancel(true));
+    }
+
+    /**
+     * Records the progress of a job at the end of each of its iterations.
+     */
+    private final class JobProgressListener implements DichotomyListener {
+        private final String jobId;
+
+        private JobProgressListener(String jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void onIterationCompleted(int iteration, double highestValidStepValue, double lowestInvalidStepValue) {
+            progresses.computeIfPresent(jobId, (id, progress) -> progress.withIteration(iteration, highestValidStepValue, lowestInvalidStepValue));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.batch;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs many dichotomies over one shared pool of workers.
+ *
+ * <p>Each job is run with {@link com.farao_community.farao.dichotomy.api.DichotomyEngine#runAsync}, so that the
+ * validations of all the running jobs are queued on the same pool and no worker waits for a job to go on. The
+ * number of jobs running at the same time can be bounded to limit the number of network variants alive at once.</p>
+ */
+public final class DichotomyBatchRunner implements AutoCloseable {
+    private final Executor executor;
+    private final ExecutorService ownedExecutorService;
+    private final int maxConcurrentJobs;
+
+    /**
+     * Creates a runner with its own pool of {@code poolSize} workers, that is shut down when the runner is closed. At
+     * most {@code poolSize} jobs run at the same time, other jobs are queued.
+     */
+    public DichotomyBatchRunner(int poolSize) {
+        if (poolSize < 1) {
+            throw new DichotomyException("Pool size of the dichotomy batch runner should be at least 1.");
+        }
+        this.ownedExecutorService = Executors.newFixedThreadPool(poolSize);
+        this.executor = ownedExecutorService;
+        this.maxConcurrentJobs = poolSize;
+    }
+
+    /**
+     * Creates a runner using a pool owned by the caller.
+     *
+     * @param executor pool on which the validations of the jobs are performed
+     * @param maxConcurrentJobs maximum number of jobs running at the same time, other jobs are queued
+     */
+    public DichotomyBatchRunner(Executor executor, int maxConcurrentJobs) {
+        if (maxConcurrentJobs < 1) {
+            throw new DichotomyException("Max number of concurrent jobs of the dichotomy batch runner should be at least 1.");
+        }
+        this.ownedExecutorService = null;
+        this.executor = Objects.requireNonNull(executor);
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public <T> DichotomyBatch<T> submit(List<DichotomyJob<T>> jobs) {
+        final DichotomyBatch<T> batch = new DichotomyBatch<>(jobs, executor, maxConcurrentJobs);
+        batch.start();
+        return batch;
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutorService != null) {
+            ownedExecutorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.batch;
+
+import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.powsybl.iidm.network.Network;
+
+import java.util.Objects;
+
+/**
+ * A dichotomy to be run by a {@link DichotomyBatchRunner}. As the engine holds the state of the dichotomy (its index),
+ * each job must have its own engine.
+ *
+ * @param jobId identifier of the job in the batch, for instance the timestamp and the border of the computation
+ * @param network network on which the dichotomy is run, that must not be shared with other jobs of the batch
+ * @param engine engine holding the configuration of the dichotomy
+ */
+public record DichotomyJob<T>(String jobId, Network network, DichotomyEngine<T> engine) {
+    public DichotomyJob {
+        Objects.requireNonNull(jobId);
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(engine);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.batch;
+
+/**
+ * Progress of a job of a {@link DichotomyBatch}, as of its last completed iteration.
+ *
+ * @param status current status of the job
+ * @param completedIterations number of iterations completed by the dichotomy of the job
+ * @param highestValidStepValue highest valid step value of the current bracket, NaN if there is none yet
+ * @param lowestInvalidStepValue lowest invalid step value of the current bracket, NaN if there is none yet
+ */
+public record DichotomyJobProgress(DichotomyJobStatus status, int completedIterations, double highestValidStepValue, double lowestInvalidStepValue) {
+
+    static DichotomyJobProgress queued() {
+        return new DichotomyJobProgress(DichotomyJobStatus.QUEUED, 0, Double.NaN, Double.NaN);
+    }
+
+    DichotomyJobProgress withStatus(DichotomyJobStatus newStatus) {
+        return new DichotomyJobProgress(newStatus, completedIterations, highestValidStepValue, lowestInvalidStepValue);
+    }
+
+    DichotomyJobProgress withIteration(int iteration, double newHighestValidStepValue, double newLowestInvalidStepValue) {
+        return new DichotomyJobProgress(status, iteration, newHighestValidStepValue, newLowestInvalidStepValue);
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.batch;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+
+/**
+ * Outcome of a job of a {@link DichotomyBatch}.
+ *
+ * @param jobId identifier of the job
+ * @param status final status of the job, either {@code COMPLETED}, {@code FAILED} or {@code CANCELLED}
+ * @param dichotomyResult result of the dichotomy, only available when the job is completed
+ * @param failure error that made the job fail, only available when the job failed
+ */
+public record DichotomyJobResult<T>(String jobId, DichotomyJobStatus status, DichotomyResult<T> dichotomyResult, Throwable failure) {
+}
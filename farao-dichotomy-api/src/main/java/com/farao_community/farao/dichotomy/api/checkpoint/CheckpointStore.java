@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.checkpoint;
+
+import java.util.Optional;
+
+/**
+ * Interface responsible for persisting dichotomy checkpoints, so that a run could be resumed by another process.
+ * Failures are expected to be reported as {@link com.farao_community.farao.dichotomy.api.exceptions.DichotomyException}.
+ *
+ * @see FileCheckpointStore
+ */
+public interface CheckpointStore {
+
+    void save(DichotomyCheckpoint checkpoint);
+
+    Optional<DichotomyCheckpoint> load(String runId);
+
+    void delete(String runId);
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.checkpoint;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Compact state of a dichotomy run, from which it can be resumed: definition of the index, number of completed
+ * iterations and summary of each tested step, in test order. Validation data of the steps are not part of the
+ * checkpoint.
+ *
+ * @param runId identifier of the dichotomy run
+ * @param minValue minimum value of the index
+ * @param maxValue maximum value of the index
+ * @param precision precision of the index
+ * @param completedIterations number of iterations completed by the run, counted in its max number of iterations
+ * @param steps summary of the tested steps
+ */
+public record DichotomyCheckpoint(String runId, double minValue, double maxValue, double precision, int completedIterations, List<Step> steps) {
+
+    /**
+     * @param stepValue tested step value
+     * @param reasonInvalid reason of invalidity of the step, {@code NONE} for a secure step
+     * @param failureMessage failure message of the step result
+     */
+    public record Step(double stepValue, ReasonInvalid reasonInvalid, String failureMessage) {
+        public <T> DichotomyStepResult<T> toDichotomyStepResult() {
+            return DichotomyStepResult.fromSummary(reasonInvalid, failureMessage);
+        }
+    }
+
+    public DichotomyCheckpoint {
+        steps = List.copyOf(steps);
+    }
+
+    public static DichotomyCheckpoint fromIndex(String runId, Index<?> index, int completedIterations) {
+        // Summaries are enough, so that step results written to a store are not reloaded
+        final List<Step> steps = IntStream.range(0, index.testedStepsCount())
+            .mapToObj(stepIndex -> new Step(index.stepValue(stepIndex), index.stepReasonInvalid(stepIndex), index.stepSummary(stepIndex).getFailureMessage()))
+            .toList();
+        return new DichotomyCheckpoint(runId, index.minValue(), index.maxValue(), index.precision(), completedIterations, steps);
+    }
+
+    public boolean isCompatibleWith(Index<?> index) {
+        return Double.compare(minValue, index.minValue()) == 0
+            && Double.compare(maxValue, index.maxValue()) == 0
+            && Double.compare(precision, index.precision()) == 0;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.checkpoint;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Implementation of CheckpointStore that writes each checkpoint as a JSON file named after the run identifier, URL
+ * encoded so that any run identifier gives a file of the directory. Files are replaced atomically, so that a process
+ * killed while saving leaves the previous checkpoint intact.
+ */
+public class FileCheckpointStore implements CheckpointStore {
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public FileCheckpointStore(Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    @Override
+    public void save(DichotomyCheckpoint checkpoint) {
+        try {
+            Files.createDirectories(directory);
+            final Path temporaryFile = Files.createTempFile(directory, "checkpoint", ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                objectMapper.writeValue(outputStream, checkpoint);
+            }
+            Files.move(temporaryFile, checkpointFile(checkpoint.runId()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to save checkpoint of dichotomy run %s", checkpoint.runId()), e);
+        }
+    }
+
+    @Override
+    public Optional<DichotomyCheckpoint> load(String runId) {
+        final Path checkpointFile = checkpointFile(runId);
+        if (!Files.exists(checkpointFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(checkpointFile.toFile(), DichotomyCheckpoint.class));
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to load checkpoint of dichotomy run %s", runId), e);
+        }
+    }
+
+    @Override
+    public void delete(String runId) {
+        try {
+            Files.deleteIfExists(checkpointFile(runId));
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to delete checkpoint of dichotomy run %s", runId), e);
+        }
+    }
+
+    private Path checkpointFile(String runId) {
+        // Separators are encoded, and the extension keeps "." and ".." from designating directories
+        return directory.resolve(URLEncoder.encode(Objects.requireNonNull(runId), StandardCharsets.UTF_8) + ".json");
+    }
+}
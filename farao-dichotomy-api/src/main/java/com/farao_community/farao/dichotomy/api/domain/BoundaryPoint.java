@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.domain;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+
+/**
+ * Crossing of the boundary of the secure domain by a direction searched from the reference point.
+ *
+ * @param angle angle of the direction, in radians, from the exchange A axis towards the exchange B axis
+ * @param referenceExchangeA exchange A of the reference point the direction starts from
+ * @param referenceExchangeB exchange B of the reference point the direction starts from
+ * @param dichotomyResult result of the dichotomy along the direction, whose step values are distances to the reference point
+ * @param reachesBounds true when the highest valid step lies on the bounds of the searched domain
+ */
+public record BoundaryPoint<T>(double angle,
+                               double referenceExchangeA,
+                               double referenceExchangeB,
+                               DichotomyResult<T> dichotomyResult,
+                               boolean reachesBounds) {
+
+    /**
+     * @return the distance between the reference point and the highest valid step, NaN if there is none
+     */
+    public double validDistance() {
+        return dichotomyResult.getHighestValidStepValue();
+    }
+
+    public double validExchangeA() {
+        return referenceExchangeA + validDistance() * Math.cos(angle);
+    }
+
+    public double validExchangeB() {
+        return referenceExchangeB + validDistance() * Math.sin(angle);
+    }
+
+    public double invalidExchangeA() {
+        return referenceExchangeA + dichotomyResult.getLowestInvalidStepValue() * Math.cos(angle);
+    }
+
+    public double invalidExchangeB() {
+        return referenceExchangeB + dichotomyResult.getLowestInvalidStepValue() * Math.sin(angle);
+    }
+
+    /**
+     * @return the distance between the highest valid steps of both boundary points, NaN if one of them has none
+     */
+    double validDistanceTo(final BoundaryPoint<T> other) {
+        return Math.hypot(validExchangeA() - other.validExchangeA(), validExchangeB() - other.validExchangeB());
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.domain;
+
+import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.TwoDimensionalNetworkShifter;
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.WarmStartIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.utils.Formatter;
+import com.powsybl.iidm.network.Network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_LOGS;
+
+/**
+ * Engine tracing the boundary of the secure domain over the exchanges of two borders.
+ *
+ * <p>The boundary is searched along directions starting from a reference point, assumed to be secure, each one with a
+ * one-dimensional dichotomy on the distance to the reference point, bounded by the searched domain. A first set of
+ * directions is evenly spread around the reference point. Then, as long as the boundary points found in two adjacent
+ * directions are further from each other than the boundary tolerance, a direction is added in between. Each added
+ * direction is warm-started from the distances found in its neighbours, see {@link WarmStartIndexStrategy}.</p>
+ *
+ * <p>Network validations are reused: a point of the domain that has already been validated, such as the reference
+ * point shared by all directions, is neither shifted nor validated again.</p>
+ */
+public final class SecureDomainEngine<T> {
+    private static final int DEFAULT_MAX_ITERATION_NUMBER = 100;
+    private static final int DEFAULT_INITIAL_DIRECTIONS = 8;
+    private static final int DEFAULT_MAX_DIRECTIONS = 32;
+    private static final double BOUNDARY_TOLERANCE_TO_PRECISION_RATIO = 10;
+    private static final double FULL_TURN = 2 * Math.PI;
+
+    private final TwoDimensionalNetworkShifter networkShifter;
+    private final NetworkValidator<T> networkValidator;
+    private final double referenceExchangeA;
+    private final double referenceExchangeB;
+    private final double minExchangeA;
+    private final double maxExchangeA;
+    private final double minExchangeB;
+    private final double maxExchangeB;
+    private final double precision;
+    private final double boundaryTolerance;
+    private final int initialDirections;
+    private final int maxDirections;
+    private final int maxIteration;
+    private final boolean variantReuse;
+
+    /**
+     * Use the builder
+     */
+    private SecureDomainEngine(Builder<T> builder) {
+        if (!(builder.precision > 0)) {
+            throw new DichotomyException("Precision of the secure domain engine should be positive.");
+        }
+        if (!(builder.minExchangeA < builder.referenceExchangeA && builder.referenceExchangeA < builder.maxExchangeA
+            && builder.minExchangeB < builder.referenceExchangeB && builder.referenceExchangeB < builder.maxExchangeB)) {
+            throw new DichotomyException("Reference point of the secure domain engine should be strictly inside the searched domain.");
+        }
+        if (builder.initialDirections < 3) {
+            throw new DichotomyException("Initial number of directions of the secure domain engine should be at least 3.");
+        }
+        if (builder.maxDirections < builder.initialDirections) {
+            throw new DichotomyException("Max number of directions of the secure domain engine should be at least the initial number of directions.");
+        }
+        this.networkShifter = Objects.requireNonNull(builder.networkShifter);
+        this.networkValidator = Objects.requireNonNull(builder.networkValidator);
+        this.referenceExchangeA = builder.referenceExchangeA;
+        this.referenceExchangeB = builder.referenceExchangeB;
+        this.minExchangeA = builder.minExchangeA;
+        this.maxExchangeA = builder.maxExchangeA;
+        this.minExchangeB = builder.minExchangeB;
+        this.maxExchangeB = builder.maxExchangeB;
+        this.precision = builder.precision;
+        this.boundaryTolerance = Double.isNaN(builder.boundaryTolerance)
+            ? BOUNDARY_TOLERANCE_TO_PRECISION_RATIO * builder.precision
+            : builder.boundaryTolerance;
+        if (!(boundaryTolerance > 0)) {
+            throw new DichotomyException("Boundary tolerance of the secure domain engine should be positive.");
+        }
+        this.initialDirections = builder.initialDirections;
+        this.maxDirections = builder.maxDirections;
+        this.maxIteration = builder.maxIteration;
+        this.variantReuse = builder.variantReuse;
+    }
+
+    public SecureDomainResult<T> run(final Network network) {
+        final DomainRun domainRun = new DomainRun(network);
+        final TreeMap<Double, BoundaryPoint<T>> boundaryPoints = new TreeMap<>();
+        for (int i = 0; i < initialDirections; i++) {
+            final double angle = FULL_TURN * i / initialDirections;
+            boundaryPoints.put(angle, domainRun.search(angle, new RangeDivisionIndexStrategy<>(true)));
+        }
+
+        boolean refined = true;
+        while (refined && boundaryPoints.size() < maxDirections) {
+            refined = false;
+            final List<BoundaryPoint<T>> sortedPoints = new ArrayList<>(boundaryPoints.values());
+            for (int i = 0; i < sortedPoints.size() && boundaryPoints.size() < maxDirections; i++) {
+                final BoundaryPoint<T> point = sortedPoints.get(i);
+                final BoundaryPoint<T> nextPoint = sortedPoints.get((i + 1) % sortedPoints.size());
+                if (needsRefinement(point, nextPoint)) {
+                    final double angle = middleAngle(point.angle(), nextPoint.angle());
+                    boundaryPoints.put(angle, domainRun.search(angle, warmStartStrategy(point, nextPoint)));
+                    refined = true;
+                }
+            }
+        }
+        return new SecureDomainResult<>(new ArrayList<>(boundaryPoints.values()), domainRun.validationsCount.get());
+    }
+
+    /**
+     * Adjacent boundary points are refined when they are too far from each other, unless both lie on the bounds of
+     * the searched domain or one of them has no valid step to start from.
+     */
+    private boolean needsRefinement(final BoundaryPoint<T> point, final BoundaryPoint<T> nextPoint) {
+        if (point.reachesBounds() && nextPoint.reachesBounds()) {
+            return false;
+        }
+        final double distance = point.validDistanceTo(nextPoint);
+        return !Double.isNaN(distance) && distance > boundaryTolerance;
+    }
+
+    private IndexStrategy<T> warmStartStrategy(final BoundaryPoint<T> point, final BoundaryPoint<T> nextPoint) {
+        final double lowerDistance = Math.min(point.validDistance(), nextPoint.validDistance());
+        final double upperDistance = Math.max(point.validDistance(), nextPoint.validDistance());
+        return new WarmStartIndexStrategy<>(lowerDistance - precision, upperDistance + precision);
+    }
+
+    private static double middleAngle(final double angle, final double nextAngle) {
+        return nextAngle > angle
+            ? (angle + nextAngle) / 2
+            : ((angle + nextAngle + FULL_TURN) / 2) % FULL_TURN;
+    }
+
+    /**
+     * @return the distance from the reference point to the bounds of the searched domain in the given direction
+     */
+    private double distanceToBounds(final double cos, final double sin) {
+        double distance = Double.POSITIVE_INFINITY;
+        if (cos > 0) {
+            distance = Math.min(distance, (maxExchangeA - referenceExchangeA) / cos);
+        } else if (cos < 0) {
+            distance = Math.min(distance, (minExchangeA - referenceExchangeA) / cos);
+        }
+        if (sin > 0) {
+            distance = Math.min(distance, (maxExchangeB - referenceExchangeB) / sin);
+        } else if (sin < 0) {
+            distance = Math.min(distance, (minExchangeB - referenceExchangeB) / sin);
+        }
+        return distance;
+    }
+
+    /**
+     * Point of the domain, rounded to the precision of the engine, used to look up already validated points. Points
+     * of different directions closer than the precision may thus share their validation, the boundary being only
+     * searched to that precision.
+     */
+    private record PointKey(long exchangeA, long exchangeB) {
+
+        static PointKey of(final double exchangeA, final double exchangeB, final double precision) {
+            return new PointKey(Math.round(exchangeA / precision), Math.round(exchangeB / precision));
+        }
+    }
+
+    /**
+     * Result of the validation of a point, with the direction in which it has been validated.
+     */
+    private record PointEvaluation<T>(double angle, DichotomyStepResult<T> stepResult) {
+    }
+
+    /**
+     * State of one run, shared by the dichotomies of all directions.
+     */
+    private final class DomainRun {
+        private final Network network;
+        private final Map<PointKey, PointEvaluation<T>> evaluations = new ConcurrentHashMap<>();
+        private final Map<String, PointKey> stepPoints = new ConcurrentHashMap<>();
+        private final AtomicInteger validationsCount = new AtomicInteger();
+
+        private DomainRun(final Network network) {
+            this.network = network;
+        }
+
+        private BoundaryPoint<T> search(final double angle, final IndexStrategy<T> indexStrategy) {
+            final double cos = Math.cos(angle);
+            final double sin = Math.sin(angle);
+            final double maxDistance = distanceToBounds(cos, sin);
+            BUSINESS_LOGS.info(String.format("Searching secure domain boundary in direction %s rad (max distance: %s)",
+                Formatter.formatDoubleDecimals(angle), Formatter.formatDoubleDecimals(maxDistance)));
+            final DichotomyResult<T> dichotomyResult = DichotomyEngine.<T>builder()
+                .withIndex(new Index<>(0, maxDistance, precision))
+                .withIndexStrategy(indexStrategy)
+                .withNetworkShifter(directionShifter(angle, cos, sin))
+                .withNetworkValidator((stepNetwork, lastDichotomyStepResult) -> validate(angle, stepNetwork, lastDichotomyStepResult))
+                .withMaxIteration(maxIteration)
+                .withVariantReuse(variantReuse)
+                .build()
+                .run(network);
+            final boolean reachesBounds = Math.abs(dichotomyResult.getHighestValidStepValue() - maxDistance) < Index.EPSILON;
+            return new BoundaryPoint<>(angle, referenceExchangeA, referenceExchangeB, dichotomyResult, reachesBounds);
+        }
+
+        /**
+         * Shifts the network to the point at the given distance in the direction, unless that point has already been
+         * validated in another direction, and records the point of the step variant for its validation once the shift
+         * succeeded. Within a direction, steps closer than the precision are distinct steps of the dichotomy and are
+         * always validated.
+         */
+        private NetworkShifter directionShifter(final double angle, final double cos, final double sin) {
+            return (distance, stepNetwork) -> {
+                final double exchangeA = referenceExchangeA + distance * cos;
+                final double exchangeB = referenceExchangeB + distance * sin;
+                final PointKey point = PointKey.of(exchangeA, exchangeB, precision);
+                if (knownResult(angle, point) == null) {
+                    networkShifter.shiftNetwork(exchangeA, exchangeB, stepNetwork);
+                }
+                stepPoints.put(stepNetwork.getVariantManager().getWorkingVariantId(), point);
+            };
+        }
+
+        private DichotomyStepResult<T> validate(final double angle, final Network stepNetwork, final DichotomyStepResult<T> lastDichotomyStepResult) throws ValidationException, RaoFailureException, RaoInterruptionException {
+            final String stepVariant = stepNetwork.getVariantManager().getWorkingVariantId();
+            try {
+                final PointKey point = stepPoints.get(stepVariant);
+                final DichotomyStepResult<T> knownResult = point != null ? knownResult(angle, point) : null;
+                if (knownResult != null) {
+                    return knownResult;
+                }
+                final DichotomyStepResult<T> stepResult = networkValidator.validateNetwork(stepNetwork, lastDichotomyStepResult);
+                validationsCount.incrementAndGet();
+                if (point != null) {
+                    evaluations.putIfAbsent(point, new PointEvaluation<>(angle, stepResult));
+                }
+                return stepResult;
+            } finally {
+                stepPoints.remove(stepVariant);
+            }
+        }
+
+        /**
+         * @return the result of the given point if it has been validated in another direction, null otherwise
+         */
+        private DichotomyStepResult<T> knownResult(final double angle, final PointKey point) {
+            final PointEvaluation<T> evaluation = evaluations.get(point);
+            return evaluation != null && evaluation.angle() != angle ? evaluation.stepResult() : null;
+        }
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+        private TwoDimensionalNetworkShifter networkShifter;
+        private NetworkValidator<T> networkValidator;
+        private double referenceExchangeA;
+        private double referenceExchangeB;
+        private double minExchangeA = Double.NaN;
+        private double maxExchangeA = Double.NaN;
+        private double minExchangeB = Double.NaN;
+        private double maxExchangeB = Double.NaN;
+        private double precision = Double.NaN;
+        private double boundaryTolerance = Double.NaN;
+        private int initialDirections = DEFAULT_INITIAL_DIRECTIONS;
+        private int maxDirections = DEFAULT_MAX_DIRECTIONS;
+        private int maxIteration = DEFAULT_MAX_ITERATION_NUMBER;
+        private boolean variantReuse;
+
+        private Builder() {
+        }
+
+        public Builder<T> withNetworkShifter(final TwoDimensionalNetworkShifter networkShifter) {
+            this.networkShifter = networkShifter;
+            return this;
+        }
+
+        public Builder<T> withNetworkValidator(final NetworkValidator<T> networkValidator) {
+            this.networkValidator = networkValidator;
+            return this;
+        }
+
+        /**
+         * Point all directions start from, which is expected to be secure.
+         */
+        public Builder<T> withReferencePoint(final double exchangeA, final double exchangeB) {
+            this.referenceExchangeA = exchangeA;
+            this.referenceExchangeB = exchangeB;
+            return this;
+        }
+
+        /**
+         * Bounds of the searched domain, which must strictly contain the reference point.
+         */
+        public Builder<T> withBounds(final double minExchangeA, final double maxExchangeA, final double minExchangeB, final double maxExchangeB) {
+            this.minExchangeA = minExchangeA;
+            this.maxExchangeA = maxExchangeA;
+            this.minExchangeB = minExchangeB;
+            this.maxExchangeB = maxExchangeB;
+            return this;
+        }
+
+        /**
+         * Precision of the dichotomy along each direction.
+         */
+        public Builder<T> withPrecision(final double precision) {
+            this.precision = precision;
+            return this;
+        }
+
+        /**
+         * Maximum distance between the boundary points of two adjacent directions above which a direction is added
+         * in between. Default value is ten times the precision.
+         */
+        public Builder<T> withBoundaryTolerance(final double boundaryTolerance) {
+            this.boundaryTolerance = boundaryTolerance;
+            return this;
+        }
+
+        /**
+         * Number of directions evenly spread around the reference point before any refinement. Default value is 8.
+         */
+        public Builder<T> withInitialDirections(final int initialDirections) {
+            this.initialDirections = initialDirections;
+            return this;
+        }
+
+        /**
+         * Maximum number of directions searched, refinements included. Default value is 32.
+         */
+        public Builder<T> withMaxDirections(final int maxDirections) {
+            this.maxDirections = maxDirections;
+            return this;
+        }
+
+        /**
+         * Max number of iterations of the dichotomy along each direction. Default value is 100.
+         */
+        public Builder<T> withMaxIteration(final int maxIteration) {
+            this.maxIteration = maxIteration;
+            return this;
+        }
+
+        /**
+         * See {@link DichotomyEngine.Builder#withVariantReuse(boolean)}. Disabled by default.
+         */
+        public Builder<T> withVariantReuse(final boolean variantReuse) {
+            this.variantReuse = variantReuse;
+            return this;
+        }
+
+        public SecureDomainEngine<T> build() {
+            return new SecureDomainEngine<>(this);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.domain;
+
+import java.util.List;
+
+/**
+ * Boundary of the secure domain traced by a {@link SecureDomainEngine}.
+ *
+ * @param boundaryPoints crossings of the boundary, sorted by increasing angle
+ * @param validationsCount number of network validations actually performed, evaluations reused being excluded
+ */
+public record SecureDomainResult<T>(List<BoundaryPoint<T>> boundaryPoints, int validationsCount) {
+
+    public SecureDomainResult {
+        boundaryPoints = List.copyOf(boundaryPoints);
+    }
+}
@@ -10,6 +10,8 @@ import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.List;
+import java.util.OptionalDouble;
 import java.util.function.BiPredicate;
 
 /**
@@ -48,6 +50,38 @@ public class BiDirectionalStepsWithReferenceIndexStrategy<T> implements IndexStr
         }
     }
 
+    @Override
+    public List<Double> nextValues(final Index<T> index, final int count) {
+        final double nextValue = nextValue(index);
+        if (count <= 1 || highestAdmissibleStep == null || lowestInadmissibleStep == null) {
+            return List.of(nextValue);
+        }
+        final List<Double> values = index.divideInterval(highestAdmissibleStep.getLeft(), lowestInadmissibleStep.getLeft(), count);
+        return values.size() > 1 ? values : List.of(nextValue);
+    }
+
+    /**
+     * Interval limits of this strategy are updated step after step, so they are rebuilt by a new strategy replaying
+     * all tested steps, leaving this one unchanged.
+     */
+    @Override
+    public OptionalDouble anticipateNextValue(final Index<T> index, final double stepValue, final DichotomyStepResult<T> stepResult) {
+        final BiDirectionalStepsWithReferenceIndexStrategy<T> anticipatingStrategy = new BiDirectionalStepsWithReferenceIndexStrategy<>(startIndex, stepSize, referenceExchange);
+        final Index<T> anticipatedIndex = new Index<>(index.minValue(), index.maxValue(), index.precision());
+        // Only the validity of the steps is used, so summaries are enough
+        for (int stepIndex = 0; stepIndex < index.testedStepsCount(); stepIndex++) {
+            anticipatedIndex.addDichotomyStepResult(index.stepValue(stepIndex), index.stepSummary(stepIndex));
+            if (anticipatingStrategy.precisionReached(anticipatedIndex)) {
+                return OptionalDouble.empty();
+            }
+        }
+        anticipatedIndex.addDichotomyStepResult(stepValue, stepResult);
+        if (anticipatingStrategy.precisionReached(anticipatedIndex)) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(anticipatingStrategy.nextValue(anticipatedIndex));
+    }
+
     @Override
     public boolean precisionReached(final Index<T> index) {
         updateDichotomyIntervalLimits(index);
@@ -8,11 +8,20 @@ package com.farao_community.farao.dichotomy.api.index;
 
 import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.farao_community.farao.dichotomy.api.store.StepResultStore;
+import com.farao_community.farao.dichotomy.api.utils.Formatter;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_WARNS;
 import static com.farao_community.farao.dichotomy.api.results.ReasonInvalid.UNSECURE_AFTER_VALIDATION;
 
 /**
@@ -24,24 +33,60 @@ import static com.farao_community.farao.dichotomy.api.results.ReasonInvalid.UNSE
  *
  * This implementation should be enough for any dichotomy usage.
  *
+ * Tested steps are stored in parallel arrays of step values, invalidity reasons and step results, so that long step
+ * histories do not generate garbage. They are exposed through an unmodifiable view, and the last tested step is
+ * accessible in constant time. According to its {@link StepResultRetention}, the index may only keep a summary of the
+ * results of the steps out of the current interval, so that heavy RAO results are not retained for the whole run.
+ * When a {@link StepResultStore} is given, these full results are written to the store and reloaded on access. A step
+ * result that the store fails to write is only kept as a summary.
+ *
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  */
 public class Index<T> {
     public static final double EPSILON = 1e-3;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final ReasonInvalid[] REASONS_INVALID = ReasonInvalid.values();
     private final double minValue;
     private final double maxValue;
     private final double precision;
-    private final List<Pair<Double, DichotomyStepResult<T>>> stepResults = new ArrayList<>();
+    private final StepResultRetention retention;
+    private final StepResultStore<T> store;
+    private final List<Pair<Double, DichotomyStepResult<T>>> testedStepsView = new TestedStepsView();
+    private double[] stepValues = new double[INITIAL_CAPACITY];
+    private byte[] stepReasonsInvalid = new byte[INITIAL_CAPACITY];
+    private DichotomyStepResult<T>[] stepResults = newStepResults(INITIAL_CAPACITY);
+    private long[] storedStepHandles;
+    private int testedStepsCount;
     private Pair<Double, DichotomyStepResult<T>> highestValidStep;
     private Pair<Double, DichotomyStepResult<T>> lowestInvalidStep;
+    private int highestValidStepIndex = -1;
+    private int lowestInvalidStepIndex = -1;
 
     public Index(double minValue, double maxValue, double precision) {
+        this(minValue, maxValue, precision, StepResultRetention.keepAll());
+    }
+
+    public Index(double minValue, double maxValue, double precision, StepResultRetention retention) {
+        this(minValue, maxValue, precision, retention, null);
+    }
+
+    /**
+     * @param store: Store to which the full results of the steps not retained in memory are written, null if they
+     *             should only be dropped
+     */
+    public Index(double minValue, double maxValue, double precision, StepResultRetention retention, StepResultStore<T> store) {
         if (minValue > maxValue) {
             throw new DichotomyException("Index creation impossible, minValue is supposed to be lower than maxValue.");
         }
         this.minValue = minValue;
         this.maxValue = maxValue;
         this.precision = precision;
+        this.retention = Objects.requireNonNull(retention);
+        this.store = store;
+        if (store != null) {
+            this.storedStepHandles = new long[INITIAL_CAPACITY];
+            Arrays.fill(storedStepHandles, -1);
+        }
     }
 
     public double minValue() {
@@ -56,6 +101,17 @@ public class Index<T> {
         return precision;
     }
 
+    public StepResultRetention retention() {
+        return retention;
+    }
+
+    /**
+     * @return false if step results written to the store of this index are reloaded without their RAO result
+     */
+    public boolean storeKeepsRaoResults() {
+        return store == null || store.keepsRaoResult();
+    }
+
     public double meanOfStepVoltages() {
 
         if (hasMissingStep()
@@ -79,24 +135,161 @@ public class Index<T> {
         return lowestInvalidStep;
     }
 
+    /**
+     * @return a copy of the tested steps, in the order they have been added
+     */
     public List<Pair<Double, DichotomyStepResult<T>>> testedSteps() {
-        return new ArrayList<>(stepResults);
+        return new ArrayList<>(testedStepsView);
+    }
+
+    /**
+     * @return a live, unmodifiable view of the tested steps, in the order they have been added. Unlike
+     * {@link #testedSteps()}, nothing is copied and the view reflects the steps added afterwards. Full results are
+     * reloaded from the store on each access, see {@link #stepResult(int)}.
+     */
+    public List<Pair<Double, DichotomyStepResult<T>>> testedStepsView() {
+        return testedStepsView;
+    }
+
+    public int testedStepsCount() {
+        return testedStepsCount;
+    }
+
+    public double stepValue(int stepIndex) {
+        return stepValues[Objects.checkIndex(stepIndex, testedStepsCount)];
+    }
+
+    public ReasonInvalid stepReasonInvalid(int stepIndex) {
+        return REASONS_INVALID[stepReasonsInvalid[Objects.checkIndex(stepIndex, testedStepsCount)]];
+    }
+
+    /**
+     * @return the full result of the step, reloaded from the store if it is no longer retained in memory
+     */
+    public DichotomyStepResult<T> stepResult(int stepIndex) {
+        Objects.checkIndex(stepIndex, testedStepsCount);
+        if (storedStepHandles != null && storedStepHandles[stepIndex] >= 0) {
+            return store.load(storedStepHandles[stepIndex]);
+        }
+        return stepResults[stepIndex];
+    }
+
+    /**
+     * @return the result of the step held in memory, which is only a summary if the step is not retained, without
+     * ever reloading it from the store
+     */
+    public DichotomyStepResult<T> stepSummary(int stepIndex) {
+        return stepResults[Objects.checkIndex(stepIndex, testedStepsCount)];
+    }
+
+    /**
+     * @return the result of the last tested step, null if no step has been tested yet
+     */
+    public DichotomyStepResult<T> lastStepResult() {
+        return testedStepsCount == 0 ? null : stepResults[testedStepsCount - 1];
     }
 
     public void addDichotomyStepResult(double stepValue, DichotomyStepResult<T> stepResult) {
+        final int previousIntervalStepIndex;
         if (stepResult.isValid()) {
             if (highestValidStep != null && highestValidStep.getLeft() > stepValue) {
                 throw new AssertionError("Step result tested is secure but its value is lower than highest secure step one. Should not happen");
             }
             highestValidStep = Pair.of(stepValue, stepResult);
+            previousIntervalStepIndex = highestValidStepIndex;
+            highestValidStepIndex = testedStepsCount;
         } else {
             if (lowestInvalidStep != null && lowestInvalidStep.getRight().getReasonInvalid() == UNSECURE_AFTER_VALIDATION
                 && lowestInvalidStep.getLeft() < stepValue) {
                 throw new AssertionError("Step result tested is unsecure but its value is higher than lowest unsecure step one. Should not happen");
             }
             lowestInvalidStep = Pair.of(stepValue, stepResult);
+            previousIntervalStepIndex = lowestInvalidStepIndex;
+            lowestInvalidStepIndex = testedStepsCount;
+        }
+        if (testedStepsCount == stepValues.length) {
+            final int newCapacity = 2 * stepValues.length;
+            stepValues = Arrays.copyOf(stepValues, newCapacity);
+            stepReasonsInvalid = Arrays.copyOf(stepReasonsInvalid, newCapacity);
+            stepResults = Arrays.copyOf(stepResults, newCapacity);
+            if (storedStepHandles != null) {
+                storedStepHandles = Arrays.copyOf(storedStepHandles, newCapacity);
+                Arrays.fill(storedStepHandles, testedStepsCount, newCapacity, -1);
+            }
+        }
+        stepValues[testedStepsCount] = stepValue;
+        stepReasonsInvalid[testedStepsCount] = (byte) stepResult.getReasonInvalid().ordinal();
+        stepResults[testedStepsCount] = stepResult;
+        testedStepsCount++;
+        if (!retention.keepsAll()) {
+            // Only the step that left the interval and the one that is no longer among the last steps may be downgraded
+            downgradeIfNotRetained(previousIntervalStepIndex);
+            downgradeIfNotRetained(testedStepsCount - 1 - retention.lastStepsCount());
+        }
+    }
+
+    private void downgradeIfNotRetained(int stepIndex) {
+        if (stepIndex >= 0
+            && stepIndex != highestValidStepIndex
+            && stepIndex != lowestInvalidStepIndex
+            && !retention.isLastStep(stepIndex, testedStepsCount)) {
+            final DichotomyStepResult<T> summary = stepResults[stepIndex].toSummary();
+            if (summary != stepResults[stepIndex]) {
+                if (store != null) {
+                    storeStepResult(stepIndex);
+                }
+                stepResults[stepIndex] = summary;
+            }
+        }
+    }
+
+    private void storeStepResult(int stepIndex) {
+        try {
+            storedStepHandles[stepIndex] = store.store(stepResults[stepIndex]);
+        } catch (DichotomyException e) {
+            // Only the summary of the step is kept, as if there was no store
+            BUSINESS_WARNS.warn(String.format("Result of step %s could not be stored, only its summary is kept",
+                Formatter.formatDoubleDecimals(stepValues[stepIndex])), e);
+        }
+    }
+
+    /**
+     * Divides the interval between two values in equal parts, so that at most {@code count} intermediate values could
+     * be tested at once. The number of values is reduced so that the resulting sub-intervals are not narrower than
+     * the index precision.
+     *
+     * @return intermediate values sorted in ascending order, empty if the interval is empty
+     */
+    public List<Double> divideInterval(double lowerValue, double upperValue, int count) {
+        if (upperValue <= lowerValue || count < 1) {
+            return Collections.emptyList();
+        }
+        final int maxUsefulCount = Math.max(1, (int) Math.ceil((upperValue - lowerValue) / precision) - 1);
+        final int valuesCount = Math.min(count, maxUsefulCount);
+        final double subIntervalWidth = (upperValue - lowerValue) / (valuesCount + 1);
+        final List<Double> values = new ArrayList<>(valuesCount);
+        for (int i = 1; i <= valuesCount; i++) {
+            values.add(lowerValue + i * subIntervalWidth);
         }
-        stepResults.add(Pair.of(stepValue, stepResult));
+        return values;
+    }
+
+    /**
+     * @return an independent copy of this index, holding the same tested steps. The copy has no store and retains all
+     * the steps added to it, so that nothing added to the copy is ever written to the store of this index: steps of
+     * this index already written to its store are only known by their summary in the copy.
+     */
+    public Index<T> copy() {
+        final Index<T> copy = new Index<>(minValue, maxValue, precision, StepResultRetention.keepAll(), null);
+        copy.stepValues = Arrays.copyOf(stepValues, stepValues.length);
+        copy.stepReasonsInvalid = Arrays.copyOf(stepReasonsInvalid, stepReasonsInvalid.length);
+        copy.stepResults = Arrays.copyOf(stepResults, stepResults.length);
+        copy.testedStepsCount = testedStepsCount;
+        copy.highestValidStep = highestValidStep;
+        copy.lowestInvalidStep = lowestInvalidStep;
+        copy.highestValidStepIndex = highestValidStepIndex;
+        copy.lowestInvalidStepIndex = lowestInvalidStepIndex;
+        return copy;
     }
 
     public boolean isWithinPrecision() {
@@ -112,4 +305,21 @@ public class Index<T> {
                    || isStepAroundBound(highestValidStep, maxValue);
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> DichotomyStepResult<T>[] newStepResults(int capacity) {
+        return (DichotomyStepResult<T>[]) new DichotomyStepResult<?>[capacity];
+    }
+
+    private final class TestedStepsView extends AbstractList<Pair<Double, DichotomyStepResult<T>>> implements RandomAccess {
+
+        @Override
+        public Pair<Double, DichotomyStepResult<T>> get(int stepIndex) {
+            return Pair.of(stepValue(stepIndex), stepResult(stepIndex));
+        }
+
+        @Override
+        public int size() {
+            return testedStepsCount;
+        }
+    }
 }
@@ -6,6 +6,11 @@
  */
 package com.farao_community.farao.dichotomy.api.index;
 
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+import java.util.List;
+import java.util.OptionalDouble;
+
 /**
  * Interface responsible for defining which index value should be tested next by the dichotomy engine
  * based on current Index state (which contains previously tested values information).
@@ -18,6 +23,34 @@ public interface IndexStrategy<T> {
 
     double nextValue(Index<T> index);
 
+    /**
+     * Defines the values to be tested concurrently in the next round of a parallel dichotomy.
+     * By default, when both the highest valid step and the lowest invalid step are known, the interval between them
+     * is divided in {@code count + 1} equal parts (k-section). Otherwise, only {@link #nextValue(Index)} is returned.
+     */
+    default List<Double> nextValues(final Index<T> index, final int count) {
+        final double nextValue = nextValue(index);
+        if (count <= 1 || index.hasMissingStep()) {
+            return List.of(nextValue);
+        }
+        final List<Double> values = index.divideInterval(index.highestValidStep().getLeft(), index.lowestInvalidStep().getLeft(), count);
+        return values.size() > 1 ? values : List.of(nextValue);
+    }
+
+    /**
+     * Anticipates the value that would be tested next if the given step result was added to the index, so that the
+     * next step could be prepared while the current one is validated. Neither the index nor the state of the strategy
+     * must be changed: strategies whose state is updated from the index have to override this method.
+     *
+     * @return the anticipated next value, empty if precision would be reached or if the next value depends on data the
+     * given step result does not hold
+     */
+    default OptionalDouble anticipateNextValue(final Index<T> index, final double stepValue, final DichotomyStepResult<T> stepResult) {
+        final Index<T> anticipatedIndex = index.copy();
+        anticipatedIndex.addDichotomyStepResult(stepValue, stepResult);
+        return precisionReached(anticipatedIndex) ? OptionalDouble.empty() : OptionalDouble.of(nextValue(anticipatedIndex));
+    }
+
     default boolean precisionReached(final Index<T> index) {
         if (index.isInBounds()) {
             return true;
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.index;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.powsybl.openrao.data.crac.api.Instant;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Implementation of IndexStrategy that uses the margins of the validated steps, which are roughly linear in the
+ * shifted exchange, to locate the zero-margin value instead of only the secure/unsecure information.
+ * First, it will validate minimum and maximum value (depending on startWithMin value), as the
+ * RangeDivisionIndexStrategy does. Then, the next value is placed by regula falsi: the margins of the highest valid
+ * step and of the lowest invalid step are linearly interpolated. Following the Illinois variant, the margin of a bracket
+ * bound that has not moved for several steps is halved each time, so that both bounds keep getting closer.
+ *
+ * When the margin of one of the bounds is not available (NaN, for instance on GLSK limitation) or is not consistent
+ * with its validity, the middle of the interval is validated instead. The next value is always kept at half the
+ * precision from the bounds at least, so that the interval shrinks at each step.
+ *
+ * Once both bounds are known, the next value depends on the margin of the last step, so it cannot be anticipated from
+ * a step result that does not hold its margin, such as the summaries used for speculative shifts.
+ */
+public class MarginInterpolationIndexStrategy<T> implements IndexStrategy<T> {
+    private final boolean startWithMin;
+    private final ToDoubleFunction<DichotomyStepResult<T>> marginFunction;
+
+    /**
+     * @param marginFunction: Margin of a step result, positive when secure, NaN when not available
+     */
+    public MarginInterpolationIndexStrategy(boolean startWithMin, ToDoubleFunction<DichotomyStepResult<T>> marginFunction) {
+        this.startWithMin = startWithMin;
+        this.marginFunction = Objects.requireNonNull(marginFunction);
+    }
+
+    /**
+     * Builds a strategy that uses the opposite of the functional cost of the {@link com.powsybl.openrao.data.raoresult.api.RaoResult}
+     * after the given instant as margin, which is the minimum margin for a max-min margin optimization.
+     */
+    public static <T> MarginInterpolationIndexStrategy<T> fromFunctionalCost(boolean startWithMin, Instant optimizedInstant) {
+        return new MarginInterpolationIndexStrategy<>(startWithMin, stepResult -> stepResult.getRaoResult() != null
+            ? -stepResult.getRaoResult().getFunctionalCost(optimizedInstant)
+            : Double.NaN);
+    }
+
+    @Override
+    public OptionalDouble anticipateNextValue(final Index<T> index, final double stepValue, final DichotomyStepResult<T> stepResult) {
+        if (!stepResult.isSummary()) {
+            return IndexStrategy.super.anticipateNextValue(index, stepValue, stepResult);
+        }
+        final Index<T> anticipatedIndex = index.copy();
+        anticipatedIndex.addDichotomyStepResult(stepValue, stepResult);
+        if (precisionReached(anticipatedIndex) || anticipatedIndex.highestValidStep() != null && anticipatedIndex.lowestInvalidStep() != null) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(nextValue(anticipatedIndex));
+    }
+
+    @Override
+    public double nextValue(final Index<T> index) {
+        if (precisionReached(index)) {
+            throw new AssertionError("Dichotomy engine should not ask for next value if precision is reached");
+        }
+        if (startWithMin) {
+            if (index.highestValidStep() == null) {
+                return index.minValue();
+            }
+            if (index.lowestInvalidStep() == null) {
+                return index.maxValue();
+            }
+        } else {
+            if (index.lowestInvalidStep() == null) {
+                return index.maxValue();
+            }
+            if (index.highestValidStep() == null) {
+                return index.minValue();
+            }
+        }
+        return interpolate(index);
+    }
+
+    private double interpolate(final Index<T> index) {
+        final double lowerValue = index.highestValidStep().getLeft();
+        final double upperValue = index.lowestInvalidStep().getLeft();
+        double lowerMargin = marginFunction.applyAsDouble(index.highestValidStep().getRight());
+        double upperMargin = marginFunction.applyAsDouble(index.lowestInvalidStep().getRight());
+        if (Double.isNaN(lowerMargin) || Double.isNaN(upperMargin) || lowerMargin < 0 || upperMargin > 0 || lowerMargin == upperMargin) {
+            return index.meanOfStepVoltages();
+        }
+
+        final int retainedBoundSteps = countLastStepsOnSameSide(index);
+        if (retainedBoundSteps > 1) {
+            final double illinoisFactor = Math.pow(0.5, retainedBoundSteps - 1.);
+            if (index.lastStepResult().isValid()) {
+                upperMargin *= illinoisFactor;
+            } else {
+                lowerMargin *= illinoisFactor;
+            }
+        }
+
+        final double interpolatedValue = lowerValue + (upperValue - lowerValue) * lowerMargin / (lowerMargin - upperMargin);
+        final double minDistanceToBounds = Math.min(index.precision(), upperValue - lowerValue) / 2;
+        return Math.clamp(interpolatedValue, lowerValue + minDistanceToBounds, upperValue - minDistanceToBounds);
+    }
+
+    /**
+     * @return the number of last tested steps that all moved the same bound of the interval
+     */
+    private static int countLastStepsOnSameSide(final Index<?> index) {
+        final int lastStepIndex = index.testedStepsCount() - 1;
+        final boolean lastStepValid = index.stepReasonInvalid(lastStepIndex) == ReasonInvalid.NONE;
+        int count = 0;
+        for (int i = lastStepIndex; i >= 0 && (index.stepReasonInvalid(i) == ReasonInvalid.NONE) == lastStepValid; i--) {
+            count++;
+        }
+        return count;
+    }
+}
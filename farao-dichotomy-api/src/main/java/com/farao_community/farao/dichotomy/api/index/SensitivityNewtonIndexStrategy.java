@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.index;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.MarginSensitivityData;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+
+/**
+ * Implementation of IndexStrategy that predicts the zero-margin value by a Newton step, using the margin and its
+ * sensitivity to the step value exposed by the validation data of the last tested step, see {@link MarginSensitivityData}.
+ * First, it will validate the given start value, typically a reference exchange or the result of a previous dichotomy.
+ * Then, each next value is the zero-margin value predicted from the last tested step, kept within the current
+ * interval and at half the precision from its bounds at least. A prediction that is closer to the last tested step
+ * than the precision is moved at the precision from it, so that the interval could be closed in one step. As biased
+ * sensitivities could make predictions that barely shrink the interval, the middle of the interval is validated
+ * instead whenever the last tested step shrank it by less than half, so that the interval at least halves every other
+ * step.
+ *
+ * When no prediction is available (validation data not implementing {@link MarginSensitivityData}, failed step or
+ * null sensitivity), the missing bound of the interval is validated, or its middle if both are known, as the
+ * RangeDivisionIndexStrategy does.
+ */
+public class SensitivityNewtonIndexStrategy<T> implements IndexStrategy<T> {
+    private final double startValue;
+
+    public SensitivityNewtonIndexStrategy(double startValue) {
+        this.startValue = startValue;
+    }
+
+    @Override
+    public double nextValue(final Index<T> index) {
+        if (precisionReached(index)) {
+            throw new AssertionError("Dichotomy engine should not ask for next value if precision is reached");
+        }
+        if (index.testedStepsCount() == 0) {
+            return Math.clamp(startValue, index.minValue(), index.maxValue());
+        }
+        if (lastStepShrankIntervalByLessThanHalf(index)) {
+            return index.meanOfStepVoltages();
+        }
+        final double lastStepValue = index.stepValue(index.testedStepsCount() - 1);
+        final DichotomyStepResult<T> lastStepResult = index.lastStepResult();
+        final double predictedValue = predictZeroMarginValue(lastStepValue, lastStepResult);
+        if (Double.isNaN(predictedValue)) {
+            return fallbackValue(index);
+        }
+        return safeguard(index, lastStepValue, lastStepResult.isValid(), predictedValue);
+    }
+
+    private double predictZeroMarginValue(final double stepValue, final DichotomyStepResult<T> stepResult) {
+        if (stepResult.isFailed() || !(stepResult.getValidationData() instanceof MarginSensitivityData marginSensitivityData)) {
+            return Double.NaN;
+        }
+        final double margin = marginSensitivityData.getMargin();
+        final double sensitivity = marginSensitivityData.getMarginSensitivity();
+        if (!Double.isFinite(margin) || !Double.isFinite(sensitivity) || sensitivity == 0) {
+            return Double.NaN;
+        }
+        return stepValue - margin / sensitivity;
+    }
+
+    private double safeguard(final Index<T> index, final double lastStepValue, final boolean lastStepValid, final double predictedValue) {
+        double nextValue = predictedValue;
+        if (lastStepValid) {
+            nextValue = Math.max(nextValue, lastStepValue + index.precision());
+        } else {
+            nextValue = Math.min(nextValue, lastStepValue - index.precision());
+        }
+        final double halfPrecision = index.precision() / 2;
+        final double lowerBound = index.highestValidStep() != null ? index.highestValidStep().getLeft() + halfPrecision : index.minValue();
+        final double upperBound = index.lowestInvalidStep() != null ? index.lowestInvalidStep().getLeft() - halfPrecision : index.maxValue();
+        if (lowerBound > upperBound) {
+            return fallbackValue(index);
+        }
+        return Math.clamp(nextValue, lowerBound, upperBound);
+    }
+
+    /**
+     * @return true if both bounds of the interval were already known before the last tested step, and the interval
+     * is still more than half as wide after it
+     */
+    private static boolean lastStepShrankIntervalByLessThanHalf(final Index<?> index) {
+        double highestValidValue = Double.NaN;
+        double lowestInvalidValue = Double.NaN;
+        double previousWidth = Double.NaN;
+        double width = Double.NaN;
+        for (int i = 0; i < index.testedStepsCount(); i++) {
+            previousWidth = width;
+            final double stepValue = index.stepValue(i);
+            if (index.stepReasonInvalid(i) == ReasonInvalid.NONE) {
+                highestValidValue = Double.isNaN(highestValidValue) ? stepValue : Math.max(highestValidValue, stepValue);
+            } else {
+                lowestInvalidValue = Double.isNaN(lowestInvalidValue) ? stepValue : Math.min(lowestInvalidValue, stepValue);
+            }
+            width = lowestInvalidValue - highestValidValue;
+        }
+        return width > previousWidth / 2;
+    }
+
+    private static <T> double fallbackValue(final Index<T> index) {
+        if (index.highestValidStep() == null) {
+            return index.minValue();
+        }
+        if (index.lowestInvalidStep() == null) {
+            return index.maxValue();
+        }
+        return index.meanOfStepVoltages();
+    }
+}
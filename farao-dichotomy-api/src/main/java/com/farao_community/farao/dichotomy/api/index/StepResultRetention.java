@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.index;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+
+/**
+ * Defines which tested steps of an {@link Index} keep their full {@link com.farao_community.farao.dichotomy.api.results.DichotomyStepResult},
+ * with its RAO result and validation data. Steps of the current interval, highest valid step and lowest invalid step,
+ * are always kept, as they make the result of the dichotomy. Other steps are downgraded to a summary of their
+ * validity, see {@link com.farao_community.farao.dichotomy.api.results.DichotomyStepResult#toSummary()}.
+ */
+public final class StepResultRetention {
+    private static final StepResultRetention KEEP_ALL = new StepResultRetention(Integer.MAX_VALUE);
+
+    private final int lastStepsCount;
+
+    private StepResultRetention(int lastStepsCount) {
+        this.lastStepsCount = lastStepsCount;
+    }
+
+    /**
+     * Full results of all tested steps are kept. This is the default retention of an index.
+     */
+    public static StepResultRetention keepAll() {
+        return KEEP_ALL;
+    }
+
+    /**
+     * Full results are kept for the steps of the current interval and for the given number of last tested steps.
+     */
+    public static StepResultRetention keepIntervalAndLastSteps(int lastStepsCount) {
+        if (lastStepsCount < 0) {
+            throw new DichotomyException("Number of last steps whose results are kept should not be negative.");
+        }
+        return new StepResultRetention(lastStepsCount);
+    }
+
+    public int lastStepsCount() {
+        return lastStepsCount;
+    }
+
+    boolean keepsAll() {
+        return lastStepsCount == Integer.MAX_VALUE;
+    }
+
+    boolean isLastStep(int stepIndex, int testedStepsCount) {
+        return stepIndex >= testedStepsCount - lastStepsCount;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.index;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.List;
+
+/**
+ * Implementation of IndexStrategy that starts the dichotomy around an expected result, typically the result of the
+ * dichotomy of a previous timestamp.
+ * First, it will validate the expected valid value and then the expected invalid value. If one of them does not
+ * behave as expected, the search goes on in the same direction by steps of increasing size (twice as large at each
+ * new step) until an actual research interval is found. Then the middle of the interval is validated recursively.
+ */
+public class WarmStartIndexStrategy<T> implements IndexStrategy<T> {
+    private final double expectedValidValue;
+    private final double expectedInvalidValue;
+
+    public WarmStartIndexStrategy(double expectedValidValue, double expectedInvalidValue) {
+        if (Double.isNaN(expectedValidValue) || Double.isNaN(expectedInvalidValue) || expectedValidValue >= expectedInvalidValue) {
+            throw new DichotomyException("Expected valid value should be lower than expected invalid value");
+        }
+        this.expectedValidValue = expectedValidValue;
+        this.expectedInvalidValue = expectedInvalidValue;
+    }
+
+    /**
+     * Builds a strategy that starts around the result of a previous dichotomy, enlarged by the given margin on each
+     * side. If the previous result only has one of its steps, the expected interval is built around it.
+     */
+    public static <T> WarmStartIndexStrategy<T> fromPreviousResult(DichotomyResult<?> previousResult, double margin) {
+        if (margin <= 0) {
+            throw new DichotomyException("Warm start margin should be positive");
+        }
+        final double previousValidValue = previousResult.getHighestValidStepValue();
+        final double previousInvalidValue = previousResult.getLowestInvalidStepValue();
+        if (Double.isNaN(previousValidValue) && Double.isNaN(previousInvalidValue)) {
+            throw new DichotomyException("Previous dichotomy result has no step to start from");
+        }
+        final double expectedValidValue = Double.isNaN(previousValidValue) ? previousInvalidValue - margin : previousValidValue - margin;
+        final double expectedInvalidValue = Double.isNaN(previousInvalidValue) ? previousValidValue + margin : previousInvalidValue + margin;
+        return new WarmStartIndexStrategy<>(expectedValidValue, expectedInvalidValue);
+    }
+
+    @Override
+    public double nextValue(Index<T> index) {
+        if (precisionReached(index)) {
+            throw new AssertionError("Dichotomy engine should not ask for next value if precision is reached");
+        }
+        final Pair<Double, DichotomyStepResult<T>> highestValidStep = index.highestValidStep();
+        final Pair<Double, DichotomyStepResult<T>> lowestInvalidStep = index.lowestInvalidStep();
+        if (highestValidStep == null && lowestInvalidStep == null) {
+            return clamp(index, expectedValidValue);
+        }
+        if (lowestInvalidStep == null) {
+            final double lastValidValue = highestValidStep.getLeft();
+            return lastValidValue < expectedInvalidValue
+                ? clamp(index, expectedInvalidValue)
+                : clamp(index, lastValidValue + expansionStep(index));
+        }
+        if (highestValidStep == null) {
+            final double lastInvalidValue = lowestInvalidStep.getLeft();
+            return lastInvalidValue > expectedValidValue
+                ? clamp(index, expectedValidValue)
+                : clamp(index, lastInvalidValue - expansionStep(index));
+        }
+        return index.meanOfStepVoltages();
+    }
+
+    @Override
+    public List<Double> nextValues(Index<T> index, int count) {
+        if (count > 1 && index.highestValidStep() == null && index.lowestInvalidStep() == null) {
+            final double validValue = clamp(index, expectedValidValue);
+            final double invalidValue = clamp(index, expectedInvalidValue);
+            return invalidValue > validValue ? List.of(validValue, invalidValue) : List.of(validValue);
+        }
+        return IndexStrategy.super.nextValues(index, count);
+    }
+
+    /**
+     * Size of the step used when the expected interval turns out to be wrong: the width of the expected interval,
+     * doubled for each step already tested outside of it.
+     */
+    private double expansionStep(Index<T> index) {
+        final double initialStep = Math.max(expectedInvalidValue - expectedValidValue, index.precision());
+        final int testedStepsCount = index.testedStepsCount();
+        return initialStep * Math.pow(2, Math.max(0, testedStepsCount - 2));
+    }
+
+    private static double clamp(Index<?> index, double value) {
+        return Math.min(index.maxValue(), Math.max(index.minValue(), value));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering a whole dichotomy run. Along with {@link DichotomyStepEvent},
+ * {@link NetworkValidationEvent} and {@link ZoneScalingEvent}, it allows correlating the search progress with other
+ * recorded events such as GC or CPU load. Fields are only filled when the event is enabled, so that the overhead is
+ * negligible otherwise.
+ */
+@Name("com.farao_community.farao.dichotomy.DichotomyRun")
+@Label("Dichotomy Run")
+@Category({"FARAO", "Dichotomy"})
+@Description("Execution of a dichotomy by the dichotomy engine")
+public final class DichotomyRunEvent extends Event {
+    @Label("Run Id")
+    public String runId;
+
+    @Label("Tested Steps")
+    public int testedSteps;
+
+    @Label("Highest Valid Step Value")
+    public double highestValidStepValue;
+
+    @Label("Lowest Invalid Step Value")
+    public double lowestInvalidStepValue;
+
+    @Label("Limiting Cause")
+    public String limitingCause;
+
+    @Label("Interrupted")
+    public boolean interrupted;
+
+    @Label("RAO Failed")
+    public boolean raoFailed;
+}
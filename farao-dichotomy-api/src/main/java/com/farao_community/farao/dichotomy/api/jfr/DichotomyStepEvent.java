@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the validation of a dichotomy step, from variant clone to variant removal.
+ */
+@Name("com.farao_community.farao.dichotomy.DichotomyStep")
+@Label("Dichotomy Step")
+@Category({"FARAO", "Dichotomy"})
+@Description("Shift and validation of the network for a dichotomy step value")
+public final class DichotomyStepEvent extends Event {
+    @Label("Run Id")
+    public String runId;
+
+    @Label("Step Value")
+    public double stepValue;
+
+    @Label("Reason Invalid")
+    @Description("Reason of invalidity of the step, NONE for a secure step, missing if the step failed with an exception")
+    public String reasonInvalid;
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the scaling of one zone when shifting the network.
+ */
+@Name("com.farao_community.farao.dichotomy.ZoneScaling")
+@Label("Zone Scaling")
+@Category({"FARAO", "Dichotomy", "Shift"})
+@Description("Scaling of the injections of a zone for a dichotomy step value")
+public final class ZoneScalingEvent extends Event {
+    @Label("Step Value")
+    public double stepValue;
+
+    @Label("Zone")
+    public String zone;
+
+    @Label("Asked (MW)")
+    public double asked;
+
+    @Label("Done (MW)")
+    public double done;
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.results;
+
+/**
+ * Results of the searches of the maximum export and of the maximum import from a shared reference step.
+ *
+ * @param exportResult result of the search towards higher step values
+ * @param importResult result of the search towards lower step values, whose step values are the opposite of the
+ *                     step values given to the network shifter, so that its highest valid step is the maximum import
+ */
+public record BidirectionalCapacityResult<T>(DichotomyResult<T> exportResult, DichotomyResult<T> importResult) {
+}
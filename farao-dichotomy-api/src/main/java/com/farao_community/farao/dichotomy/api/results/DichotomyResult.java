@@ -53,16 +53,9 @@ public final class DichotomyResult<I> {
         LimitingCause limitingCause = LimitingCause.INDEX_EVALUATION_OR_MAX_ITERATION;
         String failureMessage = "None";
         if (index.lowestInvalidStep() != null && index.highestValidStep() != null) {
+            limitingCause = limitingCause(index.lowestInvalidStep().getRight());
             if (index.lowestInvalidStep().getRight().isFailed()) {
-                limitingCause = switch (index.lowestInvalidStep().getRight().getReasonInvalid()) {
-                    case GLSK_LIMITATION -> LimitingCause.GLSK_LIMITATION;
-                    case BALANCE_LOADFLOW_DIVERGENCE -> LimitingCause.BALANCE_LOADFLOW_DIVERGENCE;
-                    case UNKNOWN_TERMINAL_BUS -> LimitingCause.UNKNOWN_TERMINAL_BUS;
-                    default -> LimitingCause.COMPUTATION_FAILURE;
-                };
                 failureMessage = index.lowestInvalidStep().getRight().getFailureMessage();
-            } else {
-                limitingCause = LimitingCause.CRITICAL_BRANCH;
             }
         }
 
@@ -71,6 +64,41 @@ public final class DichotomyResult<I> {
         return new DichotomyResult<>(highestValidStepResponse, lowestInvalidStepResponse, limitingCause, failureMessage);
     }
 
+    /**
+     * Builds the result of a dichotomy stopped on its first step, which is invalid: no valid step is known, and the
+     * limiting cause is the one of this step, as if it was the lowest invalid step of a complete dichotomy. A first
+     * step whose RAO has been interrupted gives an interrupted result, as an interrupted dichotomy would.
+     */
+    public static <J> DichotomyResult<J> buildFromInvalidFirstStep(double stepValue, DichotomyStepResult<J> stepResult) {
+        if (stepResult.getReasonInvalid() == ReasonInvalid.RAO_INTERRUPTION) {
+            final DichotomyResult<J> dichotomyResult = new DichotomyResult<>(null, Pair.of(stepValue, stepResult), LimitingCause.INDEX_EVALUATION_OR_MAX_ITERATION, "None");
+            dichotomyResult.setInterrupted(true);
+            return dichotomyResult;
+        }
+        final String failureMessage = stepResult.isFailed() ? stepResult.getFailureMessage() : "None";
+        return new DichotomyResult<>(null, Pair.of(stepValue, stepResult), limitingCause(stepResult), failureMessage);
+    }
+
+    private static LimitingCause limitingCause(DichotomyStepResult<?> lowestInvalidStep) {
+        if (!lowestInvalidStep.isFailed()) {
+            return LimitingCause.CRITICAL_BRANCH;
+        }
+        return switch (lowestInvalidStep.getReasonInvalid()) {
+            case GLSK_LIMITATION -> LimitingCause.GLSK_LIMITATION;
+            case BALANCE_LOADFLOW_DIVERGENCE -> LimitingCause.BALANCE_LOADFLOW_DIVERGENCE;
+            case UNKNOWN_TERMINAL_BUS -> LimitingCause.UNKNOWN_TERMINAL_BUS;
+            default -> LimitingCause.COMPUTATION_FAILURE;
+        };
+    }
+
+    /**
+     * Builds the result of a dichotomy stopped because its time budget was reached: the current bracket of the index is
+     * returned, whatever the research precision.
+     */
+    public static <J> DichotomyResult<J> buildFromTimeBudget(Index<J> index) {
+        return new DichotomyResult<>(index.highestValidStep(), index.lowestInvalidStep(), LimitingCause.TIME_BUDGET_REACHED, "Time budget reached");
+    }
+
     public static <J> DichotomyResult<J> buildFromRaoFailure(String raoFailureMessage) {
         return new DichotomyResult<>(raoFailureMessage);
     }
@@ -106,6 +134,16 @@ public final class DichotomyResult<I> {
         return lowestInvalidStep != null ? lowestInvalidStep.getLeft() : Double.NaN;
     }
 
+    /**
+     * @return true if the highest valid step or the lowest invalid step only holds the summary of its result, without
+     * RAO result nor validation data, which happens when it has been restored from a checkpoint and not tested again
+     */
+    @JsonIgnore
+    public boolean hasSummaryStep() {
+        return highestValidStep != null && highestValidStep.getRight().isSummary()
+            || lowestInvalidStep != null && lowestInvalidStep.getRight().isSummary();
+    }
+
     @JsonIgnore
     public boolean isInterrupted() {
         return interrupted;
@@ -19,13 +19,17 @@ public final class DichotomyStepResult<I> {
     private final I validationData;
     private final ReasonInvalid reasonInvalid;
     private final String failureMessage;
+    private final String decidingStage;
+    private final boolean summary;
 
-    private DichotomyStepResult(ReasonInvalid reasonInvalid, String failureMessage) {
-        this.secure = false;
+    private DichotomyStepResult(ReasonInvalid reasonInvalid, String failureMessage, boolean secure, boolean summary) {
+        this.secure = secure;
         this.raoResult = null;
         this.validationData = null;
         this.reasonInvalid = reasonInvalid;
         this.failureMessage = failureMessage;
+        this.decidingStage = null;
+        this.summary = summary;
     }
 
     private DichotomyStepResult(RaoResult raoResult, I validationData) {
@@ -38,6 +42,18 @@ public final class DichotomyStepResult<I> {
         this.secure = secure;
         this.reasonInvalid = this.secure ? ReasonInvalid.NONE : ReasonInvalid.UNSECURE_AFTER_VALIDATION;
         this.failureMessage = "None";
+        this.decidingStage = null;
+        this.summary = false;
+    }
+
+    private DichotomyStepResult(DichotomyStepResult<I> stepResult, RaoResult raoResult, I validationData, String decidingStage, boolean summary) {
+        this.secure = stepResult.secure;
+        this.raoResult = raoResult;
+        this.validationData = validationData;
+        this.reasonInvalid = stepResult.reasonInvalid;
+        this.failureMessage = stepResult.failureMessage;
+        this.decidingStage = decidingStage;
+        this.summary = summary;
     }
 
     /**
@@ -52,7 +68,7 @@ public final class DichotomyStepResult<I> {
      */
     public static <J> DichotomyStepResult<J> fromFailure(ReasonInvalid reasonInvalid,
                                                          String failureMessage) {
-        return new DichotomyStepResult<>(reasonInvalid, failureMessage);
+        return new DichotomyStepResult<>(reasonInvalid, failureMessage, false, false);
     }
 
     /**
@@ -83,6 +99,37 @@ public final class DichotomyStepResult<I> {
         return new DichotomyStepResult<>(raoResult, validationData, passedValidationAsSecure);
     }
 
+    /**
+     * Rebuilds a step result from its summary only, for instance when the dichotomy is resumed from a checkpoint.
+     * No {@link RaoResult} nor validation data are available in such a result.
+     *
+     * @param reasonInvalid: Qualify invalidity of the step, {@code NONE} for a secure step
+     * @param failureMessage: Failure message of the original step result
+     * @return A {@link DichotomyStepResult} that contains only meta-information on validity
+     */
+    public static <J> DichotomyStepResult<J> fromSummary(ReasonInvalid reasonInvalid,
+                                                         String failureMessage) {
+        return new DichotomyStepResult<>(reasonInvalid, failureMessage, reasonInvalid == ReasonInvalid.NONE, true);
+    }
+
+    /**
+     * Lightweight version of this result, for instance to be retained in a long step history.
+     *
+     * @return A {@link DichotomyStepResult} that contains only meta-information on validity, this one if it has no
+     * {@link RaoResult} nor validation data
+     */
+    public DichotomyStepResult<I> toSummary() {
+        return raoResult == null && validationData == null ? this : new DichotomyStepResult<>(this, null, null, decidingStage, true);
+    }
+
+    /**
+     * Copy of this result recording the stage of a validation chain that decided on the validity of the step, see
+     * {@link com.farao_community.farao.dichotomy.api.validation.CascadedNetworkValidator}.
+     */
+    public DichotomyStepResult<I> withDecidingStage(String stageName) {
+        return new DichotomyStepResult<>(this, raoResult, validationData, stageName, summary);
+    }
+
     public RaoResult getRaoResult() {
         return raoResult;
     }
@@ -110,6 +157,22 @@ public final class DichotomyStepResult<I> {
         return reasonInvalid;
     }
 
+    /**
+     * @return the name of the validation stage that decided on the validity of the step, null if not validated by a
+     * validation chain
+     */
+    public String getDecidingStage() {
+        return decidingStage;
+    }
+
+    /**
+     * @return true if this result only holds the validity summary of a step whose RAO result and validation data are
+     * no longer available, for instance when it has been rebuilt from a checkpoint, see {@link #fromSummary}
+     */
+    public boolean isSummary() {
+        return summary;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -15,5 +15,6 @@ public enum LimitingCause {
     CRITICAL_BRANCH,
     GLSK_LIMITATION,
     INDEX_EVALUATION_OR_MAX_ITERATION,
+    TIME_BUDGET_REACHED,
     UNKNOWN_TERMINAL_BUS
 }
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.results;
+
+/**
+ * Optional contract for the validation data of a {@link DichotomyStepResult}, when the {@link com.farao_community.farao.dichotomy.api.NetworkValidator}
+ * is able to expose the margin of the limiting element and its sensitivity to the shifted exchange, typically the
+ * opposite of the PTDF of the limiting CNEC. Index strategies may use them to predict the zero-margin step value.
+ */
+public interface MarginSensitivityData {
+
+    /**
+     * @return the margin of the limiting element, positive when the network is secure, NaN if not available
+     */
+    double getMargin();
+
+    /**
+     * @return the derivative of the margin with respect to the step value, usually negative, NaN if not available
+     */
+    double getMarginSensitivity();
+}
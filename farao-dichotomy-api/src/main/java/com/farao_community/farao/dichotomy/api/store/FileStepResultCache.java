@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.SequencedSet;
+import java.util.stream.Stream;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_WARNS;
+
+/**
+ * Implementation of StepResultCache that writes each encoded step result to a file of its own in a local directory,
+ * named after a hash of its key, so that the cache survives the process. The number of cached step results is bounded:
+ * the least recently used ones are deleted first. Recency is kept as the last modification time of the files, so that
+ * it is restored when the cache is opened again on the same directory.
+ */
+public final class FileStepResultCache<T> implements StepResultCache<T> {
+    private static final String FILE_EXTENSION = ".step";
+
+    private final Path directory;
+    private final StepResultCodec<T> codec;
+    private final int maxEntries;
+    private final SequencedSet<String> fileNames = new LinkedHashSet<>();
+
+    public FileStepResultCache(Path directory, StepResultCodec<T> codec, int maxEntries) {
+        if (maxEntries < 1) {
+            throw new DichotomyException("Max number of entries of the step result cache should be at least 1.");
+        }
+        this.directory = Objects.requireNonNull(directory);
+        this.codec = Objects.requireNonNull(codec);
+        this.maxEntries = maxEntries;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                final List<Path> cachedFiles = files
+                    .filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                    .sorted(Comparator.comparing(FileStepResultCache::lastModifiedTime))
+                    .toList();
+                cachedFiles.forEach(file -> fileNames.add(file.getFileName().toString()));
+            }
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to open step result cache %s", directory), e);
+        }
+        evictLeastRecentlyUsed();
+    }
+
+    @Override
+    public boolean keepsRaoResult() {
+        return codec.keepsRaoResult();
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public synchronized int size() {
+        return fileNames.size();
+    }
+
+    @Override
+    public synchronized boolean contains(StepCacheKey key) {
+        return fileNames.contains(fileName(key));
+    }
+
+    @Override
+    public synchronized DichotomyStepResult<T> get(StepCacheKey key) {
+        final String fileName = fileName(key);
+        if (!fileNames.contains(fileName)) {
+            return null;
+        }
+        final Path file = directory.resolve(fileName);
+        try {
+            final DichotomyStepResult<T> stepResult = codec.decode(Files.readAllBytes(file));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            fileNames.addLast(fileName);
+            return stepResult;
+        } catch (IOException e) {
+            BUSINESS_WARNS.warn(String.format("Cached step result %s could not be read, it is discarded", file), e);
+            fileNames.remove(fileName);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void put(StepCacheKey key, DichotomyStepResult<T> stepResult) {
+        final String fileName = fileName(key);
+        final Path file = directory.resolve(fileName);
+        try {
+            final Path temporaryFile = Files.createTempFile(directory, "step-result", ".tmp");
+            Files.write(temporaryFile, codec.encode(stepResult));
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to cache step result in %s", file), e);
+        }
+        fileNames.addLast(fileName);
+        evictLeastRecentlyUsed();
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final Iterator<String> iterator = fileNames.iterator();
+        while (fileNames.size() > maxEntries) {
+            final String fileName = iterator.next();
+            iterator.remove();
+            deleteQuietly(directory.resolve(fileName));
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            BUSINESS_WARNS.warn(String.format("Cached step result %s could not be deleted", file), e);
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String fileName(StepCacheKey key) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(key.networkFingerprint().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(key.shiftConfiguration().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Long.toString(key.stepValueKey()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest()) + FILE_EXTENSION;
+        } catch (NoSuchAlgorithmException e) {
+            throw new DichotomyException("SHA-256 is not available to name cached step results", e);
+        }
+    }
+}
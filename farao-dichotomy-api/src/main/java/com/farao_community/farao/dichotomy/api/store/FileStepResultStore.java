@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Implementation of StepResultStore that appends the encoded step results to a local file, each one preceded by its
+ * length. The handle of a step result is its position in the file, from which it is read back on each load, so that
+ * no stored result is kept in memory. Stores can be shared by several indexes, for instance the ones of parallel runs.
+ */
+public final class FileStepResultStore<T> implements StepResultStore<T> {
+    private final Path file;
+    private final StepResultCodec<T> codec;
+    private final FileChannel channel;
+    private long size;
+
+    /**
+     * Creates a store writing to the given file, which is emptied first.
+     */
+    public FileStepResultStore(Path file, StepResultCodec<T> codec) {
+        this(file, codec, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private FileStepResultStore(Path file, StepResultCodec<T> codec, OpenOption... openOptions) {
+        this.file = Objects.requireNonNull(file);
+        this.codec = Objects.requireNonNull(codec);
+        try {
+            this.channel = FileChannel.open(file, openOptions);
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to open step result store %s", file), e);
+        }
+    }
+
+    /**
+     * Creates a store writing to a new temporary file, which is deleted when the store is closed.
+     */
+    public static <T> FileStepResultStore<T> createTemporary(StepResultCodec<T> codec) {
+        try {
+            final Path file = Files.createTempFile("dichotomy-step-results", ".bin");
+            return new FileStepResultStore<>(file, codec, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new DichotomyException("Impossible to create temporary step result store", e);
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    @Override
+    public long store(DichotomyStepResult<T> stepResult) {
+        try {
+            final byte[] bytes = codec.encode(stepResult);
+            final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes).flip();
+            synchronized (this) {
+                final long handle = size;
+                writeFully(buffer, handle);
+                size += Integer.BYTES + bytes.length;
+                return handle;
+            }
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to store step result in %s", file), e);
+        }
+    }
+
+    @Override
+    public DichotomyStepResult<T> load(long handle) {
+        try {
+            final ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+            readFully(lengthBuffer, handle);
+            final ByteBuffer buffer = ByteBuffer.allocate(lengthBuffer.flip().getInt());
+            readFully(buffer, handle + Integer.BYTES);
+            return codec.decode(buffer.array());
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to load step result from %s", file), e);
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long writePosition = position;
+        while (buffer.hasRemaining()) {
+            writePosition += channel.write(buffer, writePosition);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long readPosition = position;
+        while (buffer.hasRemaining()) {
+            final int readBytes = channel.read(buffer, readPosition);
+            if (readBytes < 0) {
+                throw new IOException(String.format("Unexpected end of file at position %d", readPosition));
+            }
+            readPosition += readBytes;
+        }
+    }
+
+    @Override
+    public boolean keepsRaoResult() {
+        return codec.keepsRaoResult();
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new DichotomyException(String.format("Impossible to close step result store %s", file), e);
+        }
+    }
+}
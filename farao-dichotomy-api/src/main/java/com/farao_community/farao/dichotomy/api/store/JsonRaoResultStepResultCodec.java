@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Implementation of StepResultCodec that writes the RAO result of the step results with the OpenRAO JSON exporter and
+ * reads it back with the JSON importer against the CRAC it was computed on, so that RAO results that are not
+ * serializable are kept. The validation data of the step results must be serializable. The OpenRAO JSON RAO result
+ * importer and exporter must be on the classpath.
+ *
+ * @see ValidationDataStepResultCodec to leave the RAO result out
+ */
+public class JsonRaoResultStepResultCodec<T> implements StepResultCodec<T> {
+    private static final String JSON_FORMAT = "JSON";
+    private static final Properties JSON_EXPORT_PROPERTIES = new Properties();
+
+    static {
+        JSON_EXPORT_PROPERTIES.setProperty("rao-result.export.json.flows-in-amperes", "true");
+        JSON_EXPORT_PROPERTIES.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+    }
+
+    private final Crac crac;
+
+    /**
+     * @param crac: CRAC on which the RAO results of the step results are computed
+     */
+    public JsonRaoResultStepResultCodec(Crac crac) {
+        this.crac = Objects.requireNonNull(crac);
+    }
+
+    @Override
+    public byte[] encode(DichotomyStepResult<T> stepResult) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeBoolean(stepResult.isValid());
+            outputStream.writeObject(stepResult.getRaoResult() != null ? writeRaoResult(stepResult.getRaoResult()) : null);
+            outputStream.writeObject(stepResult.getValidationData());
+            outputStream.writeObject(stepResult.getDecidingStage());
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DichotomyStepResult<T> decode(byte[] bytes) throws IOException {
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            final boolean valid = inputStream.readBoolean();
+            final byte[] raoResultJson = (byte[]) inputStream.readObject();
+            final T validationData = (T) inputStream.readObject();
+            final String decidingStage = (String) inputStream.readObject();
+            final RaoResult raoResult = raoResultJson != null ? RaoResult.read(new ByteArrayInputStream(raoResultJson), crac) : null;
+            final DichotomyStepResult<T> stepResult = DichotomyStepResult.fromNetworkValidationResult(raoResult, validationData, valid);
+            return decidingStage != null ? stepResult.withDecidingStage(decidingStage) : stepResult;
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Impossible to decode step result", e);
+        }
+    }
+
+    private byte[] writeRaoResult(RaoResult raoResult) {
+        final ByteArrayOutputStream json = new ByteArrayOutputStream();
+        raoResult.write(JSON_FORMAT, crac, JSON_EXPORT_PROPERTIES, json);
+        return json.toByteArray();
+    }
+}
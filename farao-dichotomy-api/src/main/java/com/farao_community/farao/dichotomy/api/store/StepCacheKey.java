@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+
+import java.util.Objects;
+
+/**
+ * Key of a step result in a {@link StepResultCache}: the same step value validated on the same network with the same
+ * shift configuration is expected to give the same result. Step values closer than {@link Index#EPSILON} share the same key.
+ *
+ * @param networkFingerprint fingerprint of the content of the network the dichotomy is run on
+ * @param shiftConfiguration description of everything the shift depends on besides the network, such as the GLSK and
+ *                           the dispatch of the shift between areas
+ * @param stepValueKey step value, rounded to {@link Index#EPSILON}
+ */
+public record StepCacheKey(String networkFingerprint, String shiftConfiguration, long stepValueKey) {
+
+    public StepCacheKey {
+        Objects.requireNonNull(networkFingerprint);
+        Objects.requireNonNull(shiftConfiguration);
+    }
+
+    public static StepCacheKey of(String networkFingerprint, String shiftConfiguration, double stepValue) {
+        return new StepCacheKey(networkFingerprint, shiftConfiguration, Math.round(stepValue / Index.EPSILON));
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+/**
+ * Cache of validated step results, that may outlive a dichotomy run so that re-runs of the same case reuse them.
+ */
+public interface StepResultCache<T> {
+
+    boolean contains(StepCacheKey key);
+
+    /**
+     * @return the cached step result of the given key, null if there is none
+     */
+    DichotomyStepResult<T> get(StepCacheKey key);
+
+    void put(StepCacheKey key, DichotomyStepResult<T> stepResult);
+
+    /**
+     * @return false if cached step results are read back without their RAO result
+     */
+    default boolean keepsRaoResult() {
+        return true;
+    }
+}
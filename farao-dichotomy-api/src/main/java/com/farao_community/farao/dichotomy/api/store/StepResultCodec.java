@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+import java.io.IOException;
+
+/**
+ * Interface responsible for converting step results, including their RAO result and validation data, to bytes and
+ * back, so that they could be written by a {@link FileStepResultStore}.
+ *
+ * @see JavaSerializationStepResultCodec
+ * @see JsonRaoResultStepResultCodec
+ * @see ValidationDataStepResultCodec
+ */
+public interface StepResultCodec<T> {
+
+    byte[] encode(DichotomyStepResult<T> stepResult) throws IOException;
+
+    DichotomyStepResult<T> decode(byte[] bytes) throws IOException;
+
+    /**
+     * @return false if decoded step results lose the RAO result of the encoded ones
+     */
+    default boolean keepsRaoResult() {
+        return true;
+    }
+}
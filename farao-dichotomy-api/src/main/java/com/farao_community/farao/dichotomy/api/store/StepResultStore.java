@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+/**
+ * Interface responsible for keeping the step results evicted from the memory of an
+ * {@link com.farao_community.farao.dichotomy.api.index.Index}, so that they could be reloaded on access.
+ * Failures are expected to be reported as {@link com.farao_community.farao.dichotomy.api.exceptions.DichotomyException}.
+ * The store is not closed by the index using it.
+ *
+ * @see FileStepResultStore
+ */
+public interface StepResultStore<T> extends AutoCloseable {
+
+    /**
+     * @return the handle to be given to {@link #load(long)} to get the step result back
+     */
+    long store(DichotomyStepResult<T> stepResult);
+
+    DichotomyStepResult<T> load(long handle);
+
+    /**
+     * @return false if loaded step results lose the RAO result of the stored ones
+     */
+    default boolean keepsRaoResult() {
+        return true;
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Implementation of StepResultCodec based on Java serialization that leaves the RAO result out, so that step results
+ * could be encoded whatever the implementation of their RAO result. Only the validation data of the step results must
+ * be serializable. Decoded step results keep their validity, validation data and deciding stage, but have no RAO
+ * result: an index whose store uses this codec is refused by the dichotomy engine unless lossy step results are
+ * explicitly accepted.
+ *
+ * @see JsonRaoResultStepResultCodec to keep RAO results that are not serializable
+ */
+public class ValidationDataStepResultCodec<T> implements StepResultCodec<T> {
+
+    @Override
+    public byte[] encode(DichotomyStepResult<T> stepResult) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeBoolean(stepResult.isValid());
+            outputStream.writeObject(stepResult.getValidationData());
+            outputStream.writeObject(stepResult.getDecidingStage());
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public boolean keepsRaoResult() {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DichotomyStepResult<T> decode(byte[] bytes) throws IOException {
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            final boolean valid = inputStream.readBoolean();
+            final T validationData = (T) inputStream.readObject();
+            final String decidingStage = (String) inputStream.readObject();
+            final DichotomyStepResult<T> stepResult = DichotomyStepResult.fromNetworkValidationResult(null, validationData, valid);
+            return decidingStage != null ? stepResult.withDecidingStage(decidingStage) : stepResult;
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Impossible to decode step result", e);
+        }
+    }
+}
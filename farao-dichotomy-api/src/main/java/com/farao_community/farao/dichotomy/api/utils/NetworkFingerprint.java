@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.utils;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.powsybl.iidm.network.Battery;
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.DanglingLine;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.HvdcLine;
+import com.powsybl.iidm.network.FlowsLimitsHolder;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.LoadingLimits;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
+import com.powsybl.iidm.network.RatioTapChanger;
+import com.powsybl.iidm.network.ShuntCompensator;
+import com.powsybl.iidm.network.Switch;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.ThreeWindingsTransformer;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Fingerprint of the state of the working variant of a network that matters to a network validation: injection
+ * set points and active power bounds, tap positions, switch states, connection of the terminals and operational
+ * limits of the branches. The network elements are read one after the other and hashed on the fly with SHA-256, so
+ * that no serialisation of the network is needed and the fingerprint can be used as a persistent cache key.
+ *
+ * The fingerprint depends on the iteration order of the network elements, which is stable for networks imported
+ * from the same file. It is meant to recognise identical network states, for instance in a
+ * {@link com.farao_community.farao.dichotomy.api.store.StepCacheKey}, not to compare networks built differently.
+ */
+public final class NetworkFingerprint {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int NO_TAP_CHANGER = Integer.MIN_VALUE;
+
+    private NetworkFingerprint() {
+
+    }
+
+    /**
+     * @return the fingerprint of the working variant of the network, as a 64 characters hexadecimal string
+     */
+    public static String of(Network network) {
+        return HexFormat.of().formatHex(hash(network));
+    }
+
+    /**
+     * @return the 256 bits SHA-256 fingerprint of the working variant of the network
+     */
+    public static byte[] hash(Network network) {
+        Hasher hasher = new Hasher();
+        for (Generator generator : network.getGenerators()) {
+            hasher.add(generator.getId())
+                .add(generator.getTargetP())
+                .add(generator.getTargetQ())
+                .add(generator.getTargetV())
+                .add(generator.getMinP())
+                .add(generator.getMaxP())
+                .add(generator.isVoltageRegulatorOn())
+                .add(generator.getTerminal());
+        }
+        for (Battery battery : network.getBatteries()) {
+            hasher.add(battery.getId())
+                .add(battery.getTargetP())
+                .add(battery.getTargetQ())
+                .add(battery.getMinP())
+                .add(battery.getMaxP())
+                .add(battery.getTerminal());
+        }
+        for (Load load : network.getLoads()) {
+            hasher.add(load.getId())
+                .add(load.getP0())
+                .add(load.getQ0())
+                .add(load.getTerminal());
+        }
+        for (ShuntCompensator shuntCompensator : network.getShuntCompensators()) {
+            hasher.add(shuntCompensator.getId())
+                .add(shuntCompensator.getSectionCount())
+                .add(shuntCompensator.getTerminal());
+        }
+        for (DanglingLine danglingLine : network.getDanglingLines()) {
+            hasher.add(danglingLine.getId())
+                .add(danglingLine.getP0())
+                .add(danglingLine.getQ0())
+                .add(danglingLine.getTerminal())
+                .addLimits(danglingLine);
+        }
+        for (Line line : network.getLines()) {
+            hasher.add(line.getId())
+                .add(line.getTerminal1())
+                .add(line.getTerminal2())
+                .addLimits(line);
+        }
+        for (TwoWindingsTransformer transformer : network.getTwoWindingsTransformers()) {
+            hasher.add(transformer.getId())
+                .add(transformer.getRatioTapChanger())
+                .add(transformer.getPhaseTapChanger())
+                .add(transformer.getTerminal1())
+                .add(transformer.getTerminal2())
+                .addLimits(transformer);
+        }
+        for (ThreeWindingsTransformer transformer : network.getThreeWindingsTransformers()) {
+            hasher.add(transformer.getId())
+                .add(transformer.getLeg1())
+                .add(transformer.getLeg2())
+                .add(transformer.getLeg3());
+        }
+        for (Switch networkSwitch : network.getSwitches()) {
+            hasher.add(networkSwitch.getId())
+                .add(networkSwitch.isOpen());
+        }
+        for (HvdcLine hvdcLine : network.getHvdcLines()) {
+            hasher.add(hvdcLine.getId())
+                .add(hvdcLine.getActivePowerSetpoint())
+                .add(hvdcLine.getConvertersMode().ordinal());
+        }
+        return hasher.value();
+    }
+
+    private static final class Hasher {
+        private final MessageDigest digest = newDigest();
+        private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+
+        private static MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance(DIGEST_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new DichotomyException(String.format("Digest algorithm %s is not available", DIGEST_ALGORITHM), e);
+            }
+        }
+
+        private Hasher add(long value) {
+            digest.update(buffer.clear().putLong(value).array());
+            return this;
+        }
+
+        private Hasher add(int value) {
+            return add((long) value);
+        }
+
+        private Hasher add(double value) {
+            // 0.0 and -0.0 are the same set point
+            return add(Double.doubleToLongBits(value == 0 ? 0 : value));
+        }
+
+        private Hasher add(boolean value) {
+            return add(value ? 1L : 0L);
+        }
+
+        private Hasher add(String value) {
+            // Length prefix so that consecutive ids cannot be split differently
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            add(bytes.length);
+            digest.update(bytes);
+            return this;
+        }
+
+        private Hasher add(Terminal terminal) {
+            return add(terminal.isConnected());
+        }
+
+        private Hasher add(RatioTapChanger tapChanger) {
+            return add(tapChanger != null ? tapChanger.getTapPosition() : NO_TAP_CHANGER);
+        }
+
+        private Hasher add(PhaseTapChanger tapChanger) {
+            return add(tapChanger != null ? tapChanger.getTapPosition() : NO_TAP_CHANGER);
+        }
+
+        private Hasher add(ThreeWindingsTransformer.Leg leg) {
+            return add(leg.getRatioTapChanger())
+                .add(leg.getPhaseTapChanger())
+                .add(leg.getTerminal())
+                .addLimits(leg);
+        }
+
+        private Hasher addLimits(FlowsLimitsHolder limitsHolder) {
+            return add(limitsHolder.getCurrentLimits())
+                .add(limitsHolder.getActivePowerLimits())
+                .add(limitsHolder.getApparentPowerLimits());
+        }
+
+        private Hasher addLimits(Branch<?> branch) {
+            return add(branch.getCurrentLimits1())
+                .add(branch.getCurrentLimits2())
+                .add(branch.getActivePowerLimits1())
+                .add(branch.getActivePowerLimits2())
+                .add(branch.getApparentPowerLimits1())
+                .add(branch.getApparentPowerLimits2());
+        }
+
+        private Hasher add(Optional<? extends LoadingLimits> limits) {
+            if (limits.isEmpty()) {
+                return add(false);
+            }
+            add(true).add(limits.get().getPermanentLimit())
+                .add(limits.get().getTemporaryLimits().size());
+            for (LoadingLimits.TemporaryLimit temporaryLimit : limits.get().getTemporaryLimits()) {
+                add(temporaryLimit.getAcceptableDuration()).add(temporaryLimit.getValue());
+            }
+            return this;
+        }
+
+        private byte[] value() {
+            return digest.digest();
+        }
+    }
+}
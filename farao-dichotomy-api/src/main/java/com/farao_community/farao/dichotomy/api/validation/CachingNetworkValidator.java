@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.validation;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.store.StepCacheKey;
+import com.farao_community.farao.dichotomy.api.store.StepResultCache;
+import com.farao_community.farao.dichotomy.api.utils.Formatter;
+import com.powsybl.iidm.network.Network;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_LOGS;
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_WARNS;
+
+/**
+ * Network validator reusing the step results of a {@link StepResultCache}, keyed by the fingerprint of the network
+ * the dichotomy is run on, the shift configuration and the step value. Steps missing from the cache are validated
+ * by the given validator and cached, unless their validation failed. Full step results are cached, with their RAO
+ * result and validation data, so that a cached step can be exported as any other step when it ends the final
+ * bracket: the cache must keep RAO results, see {@link StepResultCache#keepsRaoResult()}. A step result that the
+ * cache fails to write is only logged.
+ *
+ * <p>Step values are not given to network validators, so the network shifter of the dichotomy must be wrapped by
+ * {@link #cachingShifter(NetworkShifter)}, which records the step value of each variant. Variants of cached steps are
+ * still shifted, so that their networks are the shifted ones when exported: only their validation is saved.</p>
+ */
+public final class CachingNetworkValidator<I> implements NetworkValidator<I> {
+    private final NetworkValidator<I> networkValidator;
+    private final StepResultCache<I> cache;
+    private final String networkFingerprint;
+    private final String shiftConfiguration;
+    private final Map<String, PendingStep<I>> pendingStepsByVariant = new ConcurrentHashMap<>();
+
+    public CachingNetworkValidator(NetworkValidator<I> networkValidator, StepResultCache<I> cache, String networkFingerprint, String shiftConfiguration) {
+        if (!cache.keepsRaoResult()) {
+            throw new DichotomyException("Step result cache of the caching network validator should keep RAO results.");
+        }
+        this.networkValidator = Objects.requireNonNull(networkValidator);
+        this.cache = Objects.requireNonNull(cache);
+        this.networkFingerprint = Objects.requireNonNull(networkFingerprint);
+        this.shiftConfiguration = Objects.requireNonNull(shiftConfiguration);
+    }
+
+    /**
+     * @return a network shifter shifting each variant with the given one, then looking up its step result in the cache.
+     * Nothing is recorded for a variant whose shift failed, as it is not validated.
+     */
+    public NetworkShifter cachingShifter(NetworkShifter networkShifter) {
+        return (stepValue, network) -> {
+            final String variantId = network.getVariantManager().getWorkingVariantId();
+            // A step left by a variant that was shifted but never validated must not be taken for this one
+            pendingStepsByVariant.remove(variantId);
+            networkShifter.shiftNetwork(stepValue, network);
+            final StepCacheKey key = StepCacheKey.of(networkFingerprint, shiftConfiguration, stepValue);
+            pendingStepsByVariant.put(variantId, new PendingStep<>(stepValue, key, cache.get(key)));
+        };
+    }
+
+    @Override
+    public DichotomyStepResult<I> validateNetwork(Network network, DichotomyStepResult<I> lastDichotomyStepResult) throws ValidationException, RaoFailureException, RaoInterruptionException {
+        final PendingStep<I> pendingStep = pendingStepsByVariant.remove(network.getVariantManager().getWorkingVariantId());
+        if (pendingStep == null) {
+            return networkValidator.validateNetwork(network, lastDichotomyStepResult);
+        }
+        if (pendingStep.cachedStepResult() != null) {
+            BUSINESS_LOGS.info(String.format("Step value %s reused from step result cache", Formatter.formatDoubleDecimals(pendingStep.stepValue())));
+            return pendingStep.cachedStepResult();
+        }
+        final DichotomyStepResult<I> stepResult = networkValidator.validateNetwork(network, lastDichotomyStepResult);
+        if (!stepResult.isFailed()) {
+            try {
+                cache.put(pendingStep.key(), stepResult);
+            } catch (DichotomyException e) {
+                BUSINESS_WARNS.warn(String.format("Result of step value %s could not be cached", Formatter.formatDoubleDecimals(pendingStep.stepValue())), e);
+            }
+        }
+        return stepResult;
+    }
+
+    /**
+     * Step shifted and waiting for its validation, or for the reuse of its cached result.
+     */
+    private record PendingStep<I>(double stepValue, StepCacheKey key, DichotomyStepResult<I> cachedStepResult) {
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.validation;
+
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_LOGS;
+
+/**
+ * Network validator running an ordered chain of validation stages, from the cheapest to the most expensive one, for
+ * instance a DC loadflow check, then an AC loadflow without remedial actions, then a full RAO. The chain stops at the
+ * first stage that decides on the validity of the step, the last validator always deciding. The name of the deciding
+ * stage is recorded in the step result, see {@link DichotomyStepResult#getDecidingStage()}.
+ */
+public final class CascadedNetworkValidator<I> implements NetworkValidator<I> {
+    private final List<ValidationStage<I>> screeningStages;
+    private final String finalStageName;
+    private final NetworkValidator<I> finalValidator;
+
+    /**
+     * @param screeningStages: Stages run in the given order before the final validator
+     * @param finalStageName: Name recorded for the steps decided by the final validator
+     * @param finalValidator: Validator of the steps no screening stage could decide on, usually a full RAO
+     */
+    public CascadedNetworkValidator(List<ValidationStage<I>> screeningStages, String finalStageName, NetworkValidator<I> finalValidator) {
+        this.screeningStages = List.copyOf(screeningStages);
+        this.finalStageName = Objects.requireNonNull(finalStageName);
+        this.finalValidator = Objects.requireNonNull(finalValidator);
+    }
+
+    @Override
+    public DichotomyStepResult<I> validateNetwork(Network network, DichotomyStepResult<I> lastDichotomyStepResult) throws ValidationException, RaoFailureException, RaoInterruptionException {
+        for (ValidationStage<I> stage : screeningStages) {
+            Optional<DichotomyStepResult<I>> stepResult = stage.screen(network, lastDichotomyStepResult);
+            if (stepResult.isPresent()) {
+                BUSINESS_LOGS.info(String.format("Validity of network %s decided by validation stage %s",
+                    network.getVariantManager().getWorkingVariantId(), stage.name()));
+                return stepResult.get().withDecidingStage(stage.name());
+            }
+        }
+        return finalValidator.validateNetwork(network, lastDichotomyStepResult).withDecidingStage(finalStageName);
+    }
+}
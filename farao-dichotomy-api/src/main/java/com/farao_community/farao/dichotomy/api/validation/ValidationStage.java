@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.validation;
+
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Stage of a {@link CascadedNetworkValidator}, that may or may not be able to decide on the validity of a step.
+ */
+public interface ValidationStage<I> {
+
+    String name();
+
+    /**
+     * @return the result of the step if this stage decides on its validity, empty if the step has to be validated by
+     * the next stages of the chain
+     */
+    Optional<DichotomyStepResult<I>> screen(Network network, DichotomyStepResult<I> lastDichotomyStepResult) throws ValidationException, RaoFailureException, RaoInterruptionException;
+
+    /**
+     * Builds a stage that validates the step with the given validator, and decides on its validity only when the
+     * result is conclusive, for instance when a loadflow without remedial actions is already secure.
+     */
+    static <I> ValidationStage<I> of(String name, NetworkValidator<I> networkValidator, Predicate<DichotomyStepResult<I>> conclusive) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(networkValidator);
+        Objects.requireNonNull(conclusive);
+        return new ValidationStage<>() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Optional<DichotomyStepResult<I>> screen(Network network, DichotomyStepResult<I> lastDichotomyStepResult) throws ValidationException, RaoFailureException, RaoInterruptionException {
+                return Optional.of(networkValidator.validateNetwork(network, lastDichotomyStepResult)).filter(conclusive);
+            }
+        };
+    }
+}
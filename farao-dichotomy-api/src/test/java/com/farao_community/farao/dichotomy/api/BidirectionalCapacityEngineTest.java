@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.results.BidirectionalCapacityResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.LimitingCause;
+import com.powsybl.iidm.network.Network;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoublePredicate;
+
+class BidirectionalCapacityEngineTest {
+    private static final double EPSILON = 1e-3;
+
+    private Network network;
+    private final Map<String, Double> shiftedValues = new ConcurrentHashMap<>();
+    private final List<Double> validatedValues = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        final String networkFilename = "20210901_2230_test_network.uct";
+        network = Network.read(networkFilename, getClass().getResourceAsStream(networkFilename));
+        shiftedValues.clear();
+        validatedValues.clear();
+    }
+
+    private BidirectionalCapacityEngine<Object> buildEngine(DoublePredicate secure) {
+        return BidirectionalCapacityEngine.builder()
+            .withReferenceValue(0)
+            .withBounds(-1000, 1000)
+            .withPrecision(10)
+            .withNetworkShifter((stepValue, stepNetwork) -> shiftedValues.put(stepNetwork.getVariantManager().getWorkingVariantId(), stepValue))
+            .withNetworkValidator((stepNetwork, lastDichotomyStepResult) -> {
+                double stepValue = shiftedValues.get(stepNetwork.getVariantManager().getWorkingVariantId());
+                validatedValues.add(stepValue);
+                return DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(secure.test(stepValue)), null);
+            })
+            .build();
+    }
+
+    @Test
+    void checkBothCapacitiesAreFoundFromSharedReference() {
+        BidirectionalCapacityResult<Object> result = buildEngine(stepValue -> stepValue > -300 && stepValue < 500).run(network);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(result.exportResult().getHighestValidStepValue()).isLessThan(500).isGreaterThanOrEqualTo(490);
+        assertions.assertThat(result.exportResult().getLowestInvalidStepValue()).isGreaterThanOrEqualTo(500).isLessThanOrEqualTo(510);
+        assertions.assertThat(result.importResult().getHighestValidStepValue()).isLessThan(300).isGreaterThanOrEqualTo(290);
+        assertions.assertThat(result.importResult().getLowestInvalidStepValue()).isGreaterThanOrEqualTo(300).isLessThanOrEqualTo(310);
+        assertions.assertThat(validatedValues.stream().filter(stepValue -> Math.abs(stepValue) < EPSILON)).hasSize(1);
+        assertions.assertThat(validatedValues).anyMatch(stepValue -> stepValue > 0).anyMatch(stepValue -> stepValue < 0);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkNoSearchIsRunWhenReferenceIsUnsecure() {
+        BidirectionalCapacityResult<Object> result = buildEngine(stepValue -> false).run(network);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(result.exportResult().hasValidStep()).isFalse();
+        assertions.assertThat(result.importResult().hasValidStep()).isFalse();
+        assertions.assertThat(result.exportResult().getLimitingCause()).isEqualTo(LimitingCause.CRITICAL_BRANCH);
+        assertions.assertThat(result.importResult().getLimitingCause()).isEqualTo(LimitingCause.CRITICAL_BRANCH);
+        assertions.assertThat(validatedValues).containsExactly(0.);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkGlskLimitationOnReferenceIsTheLimitingCauseOfBothSearches() {
+        BidirectionalCapacityResult<Object> result = BidirectionalCapacityEngine.builder()
+            .withReferenceValue(0)
+            .withBounds(-1000, 1000)
+            .withPrecision(10)
+            .withNetworkShifter((stepValue, stepNetwork) -> {
+                throw new GlskLimitationException("GLSK limits reached");
+            })
+            .withNetworkValidator((stepNetwork, lastDichotomyStepResult) -> DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null))
+            .build()
+            .run(network);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(result.exportResult().hasValidStep()).isFalse();
+        assertions.assertThat(result.exportResult().getLimitingCause()).isEqualTo(LimitingCause.GLSK_LIMITATION);
+        assertions.assertThat(result.exportResult().getLimitingFailureMessage()).isEqualTo("GLSK limits reached");
+        assertions.assertThat(result.importResult().hasValidStep()).isFalse();
+        assertions.assertThat(result.importResult().getLimitingCause()).isEqualTo(LimitingCause.GLSK_LIMITATION);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkImportSearchIsOverBeforeVariantsAreCleanedUpOnExportFailure() {
+        final AtomicInteger runningImportValidations = new AtomicInteger();
+        BidirectionalCapacityEngine<Object> engine = BidirectionalCapacityEngine.builder()
+            .withReferenceValue(0)
+            .withBounds(-1000, 1000)
+            .withPrecision(10)
+            .withNetworkShifter((stepValue, stepNetwork) -> {
+                if (stepValue > 0) {
+                    throw new IllegalStateException("Export shift failed");
+                }
+                shiftedValues.put(stepNetwork.getVariantManager().getWorkingVariantId(), stepValue);
+            })
+            .withNetworkValidator((stepNetwork, lastDichotomyStepResult) -> {
+                double stepValue = shiftedValues.get(stepNetwork.getVariantManager().getWorkingVariantId());
+                if (stepValue < 0) {
+                    runningImportValidations.incrementAndGet();
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        runningImportValidations.decrementAndGet();
+                    }
+                }
+                return DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(stepValue > -300), null);
+            })
+            .build();
+
+        Assertions.assertThatThrownBy(() -> engine.run(network))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Export shift failed");
+        Assertions.assertThat(runningImportValidations).hasValue(0);
+        Assertions.assertThat(network.getVariantManager().getVariantIds()).hasSize(1);
+        Assertions.assertThat(network.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+    }
+
+    @Test
+    void checkVariantsAreCleanedUp() {
+        buildEngine(stepValue -> stepValue > -300 && stepValue < 500).run(network);
+
+        Assertions.assertThat(network.getVariantManager().getVariantIds()).hasSize(1);
+        Assertions.assertThat(network.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+    }
+
+    @Test
+    void checkThatEngineFailsWhenReferenceIsOutOfBounds() {
+        BidirectionalCapacityEngine.Builder<Object> builder = BidirectionalCapacityEngine.builder()
+            .withReferenceValue(2000)
+            .withBounds(-1000, 1000);
+        Assertions.assertThatThrownBy(builder::build)
+            .isInstanceOf(DichotomyException.class)
+            .hasMessage("Reference step value of the bidirectional capacity engine should be between min and max values.");
+    }
+
+    @Test
+    void checkThatEngineFailsWhenPrecisionIsNotSet() {
+        BidirectionalCapacityEngine.Builder<Object> builder = BidirectionalCapacityEngine.builder()
+            .withReferenceValue(0)
+            .withBounds(-1000, 1000);
+        Assertions.assertThatThrownBy(builder::build)
+            .isInstanceOf(DichotomyException.class)
+            .hasMessage("Precision of the bidirectional capacity engine should be finite and positive.");
+    }
+
+    @Test
+    void checkThatEngineFailsWhenBoundsAreNotFinite() {
+        BidirectionalCapacityEngine.Builder<Object> builder = BidirectionalCapacityEngine.builder()
+            .withReferenceValue(0)
+            .withBounds(Double.NEGATIVE_INFINITY, 1000)
+            .withPrecision(10);
+        Assertions.assertThatThrownBy(builder::build)
+            .isInstanceOf(DichotomyException.class)
+            .hasMessage("Min and max values of the bidirectional capacity engine should be finite.");
+    }
+}
@@ -6,6 +6,8 @@
  */
 package com.farao_community.farao.dichotomy.api;
 
+import com.farao_community.farao.dichotomy.api.checkpoint.CheckpointStore;
+import com.farao_community.farao.dichotomy.api.checkpoint.DichotomyCheckpoint;
 import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
 import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
@@ -15,10 +17,15 @@ import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
 import com.farao_community.farao.dichotomy.api.index.Index;
 import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
 import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.StepResultRetention;
 import com.farao_community.farao.dichotomy.api.index.StepsIndexStrategy;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.LimitingCause;
 import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.farao_community.farao.dichotomy.api.store.FileStepResultStore;
+import com.farao_community.farao.dichotomy.api.store.ValidationDataStepResultCodec;
+import com.powsybl.iidm.network.Generator;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManager;
 import org.apache.commons.lang3.tuple.Pair;
@@ -28,8 +35,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
@@ -548,6 +573,957 @@ class DichotomyEngineTest {
         assertions.assertAll();
     }
 
+    @Test
+    void checkParallelRangeDivisionIndexStrategy() {
+        final double limit = -340;
+        final double minValue = -1000;
+        final double maxValue = 1000;
+        final double precision = 200;
+        final Index<Object> index = new Index<>(minValue, maxValue, precision);
+        final IndexStrategy<Object> indexStrategy = new RangeDivisionIndexStrategy<>(true);
+        final NetworkValidator<Object> networkValidator = new NetworkValidatorMock(limit);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(indexStrategy)
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(networkValidator)
+                .withParallelism(3)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps()).hasSize(7);
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-500, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(dichotomyResult.getLowestInvalidStepValue()).isEqualTo(-333.33, Assertions.withPrecision(0.01));
+
+        assertResultValidEquals(assertions, index.testedSteps().get(0), -1000);
+        assertResultInvalidEquals(assertions, index.testedSteps().get(1), 1000);
+        assertResultValidEquals(assertions, index.testedSteps().get(2), -500);
+        assertResultInvalidEquals(assertions, index.testedSteps().get(3), 500);
+        assertResultInvalidEquals(assertions, index.testedSteps().get(4), 0);
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertThat(initialNetwork.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkThatEngineFailsWhenParallelismTooLow() {
+        final DichotomyEngine.Builder<Object> builder = DichotomyEngine.builder()
+                .withIndex(new Index<>(0, 1000, 50))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(500))
+                .withParallelism(0);
+
+        Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(builder::build);
+    }
+
+    @Test
+    void checkAsynchronousRun() throws InterruptedException {
+        final double limit = -340;
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(limit))
+                .build();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        final DichotomyResult<Object> dichotomyResult = engine.runAsync(initialNetwork, executor).join();
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps()).hasSize(6);
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(dichotomyResult.getLowestInvalidStepValue()).isEqualTo(-250, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertThat(initialNetwork.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkAsynchronousRunWithRaoFailure() throws ValidationException, RaoInterruptionException, RaoFailureException {
+        final NetworkValidator<Object> networkValidator = mock(NetworkValidator.class);
+        when(networkValidator.validateNetwork(any(), any())).thenThrow(new RaoFailureException("test"));
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new StepsIndexStrategy<>(false, 400))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(networkValidator)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.runAsync(initialNetwork, Runnable::run).join();
+
+        Assertions.assertThat(dichotomyResult.isRaoFailed()).isTrue();
+        Assertions.assertThat(dichotomyResult.getRaoFailureMessage()).isEqualTo("test");
+    }
+
+    @Test
+    void checkAsynchronousRunRejectedByExecutor() {
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .build();
+
+        final CompletableFuture<DichotomyResult<Object>> future = engine.runAsync(initialNetwork, command -> {
+            throw new RejectedExecutionException("Executor is shut down");
+        });
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(future).isCompletedExceptionally();
+        assertions.assertThatThrownBy(future::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertThat(initialNetwork.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkAsynchronousRunRejectedDuringIteration() {
+        final AtomicInteger executedCommands = new AtomicInteger();
+        final AtomicInteger validationsCount = new AtomicInteger();
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(countingValidator(-340, validationsCount))
+                .withParallelism(2)
+                .build();
+
+        // First command launches the run, second one validates the first step, third one is rejected
+        final CompletableFuture<DichotomyResult<Object>> future = engine.runAsync(initialNetwork, command -> {
+            if (executedCommands.incrementAndGet() > 2) {
+                throw new RejectedExecutionException("Executor is saturated");
+            }
+            command.run();
+        });
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(future::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertions.assertThat(validationsCount.get()).isEqualTo(1);
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertThat(initialNetwork.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkAsynchronousRunCancellation() throws InterruptedException {
+        final CountDownLatch validationStarted = new CountDownLatch(1);
+        final CountDownLatch cancellationDone = new CountDownLatch(1);
+        final AtomicInteger validationsCount = new AtomicInteger();
+        final NetworkValidatorMock delegate = new NetworkValidatorMock(-340);
+        final NetworkValidator<Object> networkValidator = (network, lastDichotomyStepResult) -> {
+            validationsCount.incrementAndGet();
+            validationStarted.countDown();
+            try {
+                cancellationDone.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.validateNetwork(network, lastDichotomyStepResult);
+        };
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(networkValidator)
+                .build();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        final CompletableFuture<DichotomyResult<Object>> future = engine.runAsync(initialNetwork, executor);
+        Assertions.assertThat(validationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        future.cancel(true);
+        cancellationDone.countDown();
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(future.isCancelled()).isTrue();
+        assertions.assertThat(validationsCount.get()).isEqualTo(1);
+        assertions.assertThat(index.testedSteps()).isEmpty();
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertThat(initialNetwork.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkCheckpointSavedAfterEachIteration() {
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final CheckpointStore checkpointStore = mock(CheckpointStore.class);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withMaxIteration(3)
+                .withRunId("run")
+                .withCheckpointStore(checkpointStore)
+                .build();
+
+        engine.run(initialNetwork);
+
+        final ArgumentCaptor<DichotomyCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(DichotomyCheckpoint.class);
+        Mockito.verify(checkpointStore, Mockito.times(3)).save(checkpointCaptor.capture());
+        final DichotomyCheckpoint lastCheckpoint = checkpointCaptor.getValue();
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(lastCheckpoint.runId()).isEqualTo("run");
+        assertions.assertThat(lastCheckpoint.steps()).extracting(DichotomyCheckpoint.Step::stepValue).containsExactly(-1000., 1000., 0.);
+        assertions.assertThat(lastCheckpoint.steps()).extracting(DichotomyCheckpoint.Step::reasonInvalid)
+                .containsExactly(ReasonInvalid.NONE, ReasonInvalid.UNSECURE_AFTER_VALIDATION, ReasonInvalid.UNSECURE_AFTER_VALIDATION);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkResumeFromCheckpoint() throws ValidationException, RaoInterruptionException, RaoFailureException {
+        final Index<Object> firstIndex = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> firstEngine = DichotomyEngine.builder()
+                .withIndex(firstIndex)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withMaxIteration(3)
+                .build();
+        firstEngine.run(initialNetwork);
+        final DichotomyCheckpoint checkpoint = DichotomyCheckpoint.fromIndex("run", firstIndex, 3);
+
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final NetworkValidator<Object> networkValidator = Mockito.spy(new NetworkValidatorMock(-340));
+        final CheckpointStore checkpointStore = mock(CheckpointStore.class);
+        when(checkpointStore.load("run")).thenReturn(Optional.of(checkpoint));
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(networkValidator)
+                .withRunId("run")
+                .withCheckpointStore(checkpointStore)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.resume(initialNetwork);
+
+        Mockito.verify(networkValidator, Mockito.times(3)).validateNetwork(any(), any());
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps()).hasSize(6);
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(dichotomyResult.getLowestInvalidStepValue()).isEqualTo(-250, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(index.testedSteps().getFirst().getRight().getRaoResult()).isNull();
+        assertions.assertThat(dichotomyResult.hasSummaryStep()).isFalse();
+        assertions.assertAll();
+        Mockito.verify(checkpointStore).delete("run");
+    }
+
+    @Test
+    void checkResumedRunKeepsIterationsOfCheckpoint() throws ValidationException, RaoInterruptionException, RaoFailureException {
+        final DichotomyCheckpoint checkpoint = new DichotomyCheckpoint("run", -1000, 1000, 200, 3, List.of(
+                new DichotomyCheckpoint.Step(-1000, ReasonInvalid.NONE, "None"),
+                new DichotomyCheckpoint.Step(1000, ReasonInvalid.UNSECURE_AFTER_VALIDATION, "None"),
+                new DichotomyCheckpoint.Step(0, ReasonInvalid.UNSECURE_AFTER_VALIDATION, "None")));
+        final NetworkValidator<Object> networkValidator = Mockito.spy(new NetworkValidatorMock(-340));
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(networkValidator)
+                .withMaxIteration(4)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.resume(initialNetwork, checkpoint);
+
+        Mockito.verify(networkValidator, Mockito.times(1)).validateNetwork(any(), any());
+        Assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-500, Assertions.withPrecision(EPSILON));
+    }
+
+    @Test
+    void checkResumedBracketFlagsStepsRestoredFromSummary() {
+        final DichotomyCheckpoint checkpoint = new DichotomyCheckpoint("run", -1000, 1000, 200, 3, List.of(
+                new DichotomyCheckpoint.Step(-1000, ReasonInvalid.NONE, "None"),
+                new DichotomyCheckpoint.Step(1000, ReasonInvalid.UNSECURE_AFTER_VALIDATION, "None"),
+                new DichotomyCheckpoint.Step(0, ReasonInvalid.UNSECURE_AFTER_VALIDATION, "None")));
+        final CheckpointStore checkpointStore = mock(CheckpointStore.class);
+        when(checkpointStore.load("run")).thenReturn(Optional.of(checkpoint));
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-900))
+                .withRunId("run")
+                .withCheckpointStore(checkpointStore)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.resume(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-1000, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(dichotomyResult.getHighestValidStep().isSummary()).isTrue();
+        assertions.assertThat(dichotomyResult.getHighestValidStep().getRaoResult()).isNull();
+        assertions.assertThat(dichotomyResult.getLowestInvalidStep().isSummary()).isFalse();
+        assertions.assertThat(dichotomyResult.hasSummaryStep()).isTrue();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkCheckpointKeptWhenPrecisionIsNotReached() {
+        final CheckpointStore checkpointStore = mock(CheckpointStore.class);
+        DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 10))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withMaxIteration(3)
+                .withRunId("run")
+                .withCheckpointStore(checkpointStore)
+                .build()
+                .run(initialNetwork);
+
+        Mockito.verify(checkpointStore, Mockito.never()).delete(anyString());
+    }
+
+    @Test
+    void checkResumeFailsWithIncompatibleCheckpoint() {
+        final DichotomyCheckpoint checkpoint = new DichotomyCheckpoint("run", -500, 500, 200, 0, List.of());
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .build();
+
+        Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(() -> engine.resume(initialNetwork, checkpoint));
+    }
+
+    @Test
+    void checkThatEngineFailsWhenCheckpointStoreWithoutRunId() {
+        final DichotomyEngine.Builder<Object> builder = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withCheckpointStore(mock(CheckpointStore.class));
+
+        Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(builder::build);
+    }
+
+    @Test
+    void checkTimeBudgetStopsBeforeExceedingIt() {
+        final AtomicLong clock = new AtomicLong();
+        final NetworkValidatorMock networkValidatorMock = new NetworkValidatorMock(-340);
+        final NetworkValidator<Object> slowNetworkValidator = (network, lastDichotomyStepResult) -> {
+            clock.addAndGet(Duration.ofMillis(10).toNanos());
+            return networkValidatorMock.validateNetwork(network, lastDichotomyStepResult);
+        };
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(slowNetworkValidator)
+                .withTimeBudget(Duration.ofMillis(35))
+                .withNanoClock(clock::get)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps()).hasSize(3);
+        assertions.assertThat(dichotomyResult.getLimitingCause()).isEqualTo(LimitingCause.TIME_BUDGET_REACHED);
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-1000, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(dichotomyResult.getLowestInvalidStepValue()).isEqualTo(0, Assertions.withPrecision(EPSILON));
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkAsynchronousRunWithTimeBudget() {
+        final AtomicLong clock = new AtomicLong();
+        final NetworkValidatorMock networkValidatorMock = new NetworkValidatorMock(-340);
+        final NetworkValidator<Object> slowNetworkValidator = (network, lastDichotomyStepResult) -> {
+            clock.addAndGet(Duration.ofMillis(10).toNanos());
+            return networkValidatorMock.validateNetwork(network, lastDichotomyStepResult);
+        };
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(slowNetworkValidator)
+                .withTimeBudget(Duration.ofMillis(55))
+                .withNanoClock(clock::get)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.runAsync(initialNetwork, Runnable::run).join();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps()).hasSize(5);
+        assertions.assertThat(dichotomyResult.getLimitingCause()).isEqualTo(LimitingCause.TIME_BUDGET_REACHED);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkThatEngineFailsWhenTimeBudgetNotPositive() {
+        final DichotomyEngine.Builder<Object> builder = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withTimeBudget(Duration.ZERO);
+
+        Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(builder::build);
+    }
+
+    @Test
+    void checkListenersNotifiedOfStepsAndPhases() {
+        final DichotomyListener listener = mock(DichotomyListener.class);
+        final DichotomyListener failingListener = mock(DichotomyListener.class);
+        Mockito.doThrow(new IllegalStateException("Listener failure")).when(failingListener).onStepStarted(Mockito.anyDouble());
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withListener(failingListener)
+                .withListener(listener)
+                .build();
+
+        engine.run(initialNetwork);
+
+        Assertions.assertThat(index.testedSteps()).hasSize(6);
+        Mockito.verify(listener, Mockito.times(6)).onStepStarted(Mockito.anyDouble());
+        Mockito.verify(listener).onStepStarted(-375.);
+        for (final DichotomyPhase phase : DichotomyPhase.values()) {
+            Mockito.verify(listener, Mockito.times(6)).onPhaseCompleted(Mockito.anyDouble(), eq(phase), Mockito.longThat(duration -> duration >= 0));
+        }
+        Mockito.verify(listener).onStepFinished(eq(-375.), Mockito.argThat(stepResult -> stepResult != null && stepResult.isValid()), Mockito.anyLong());
+        Mockito.verify(listener, Mockito.times(6)).onStepFinished(Mockito.anyDouble(), any(), Mockito.anyLong());
+    }
+
+    @Test
+    void checkListenersNotifiedOfFailedShift() throws GlskLimitationException, ShiftingException {
+        final DichotomyListener listener = mock(DichotomyListener.class);
+        final NetworkShifter networkShifter = mock(NetworkShifter.class);
+        Mockito.doThrow(new GlskLimitationException("GLSK limits reached")).when(networkShifter).shiftNetwork(Mockito.anyDouble(), any());
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withListener(listener)
+                .build();
+
+        engine.run(initialNetwork);
+
+        Mockito.verify(listener).onPhaseCompleted(eq(-1000.), eq(DichotomyPhase.VARIANT_CLONE), Mockito.anyLong());
+        Mockito.verify(listener, Mockito.never()).onPhaseCompleted(Mockito.anyDouble(), eq(DichotomyPhase.NETWORK_SHIFT), Mockito.anyLong());
+        Mockito.verify(listener).onPhaseCompleted(eq(-1000.), eq(DichotomyPhase.VARIANT_REMOVAL), Mockito.anyLong());
+        Mockito.verify(listener).onStepFinished(eq(-1000.), Mockito.argThat(stepResult -> stepResult.getReasonInvalid() == ReasonInvalid.GLSK_LIMITATION), Mockito.anyLong());
+    }
+
+    @Test
+    void checkVariantReuse() {
+        final Map<String, Double> stepValueByVariant = new ConcurrentHashMap<>();
+        final Set<String> usedVariants = ConcurrentHashMap.newKeySet();
+        final NetworkShifter networkShifter = (stepValue, network) -> stepValueByVariant.put(network.getVariantManager().getWorkingVariantId(), stepValue);
+        final NetworkValidator<Object> networkValidator = (network, lastDichotomyStepResult) -> {
+            final String variant = network.getVariantManager().getWorkingVariantId();
+            usedVariants.add(variant);
+            return DichotomyStepResult.fromNetworkValidationResult(null, null, stepValueByVariant.get(variant) < -340);
+        };
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkValidator)
+                .withVariantReuse(true)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps()).hasSize(6);
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(dichotomyResult.getLowestInvalidStepValue()).isEqualTo(-250, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(usedVariants).hasSize(1);
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkIncrementalShift() throws GlskLimitationException, ShiftingException {
+        final RecordingIncrementalNetworkShifter networkShifter = new RecordingIncrementalNetworkShifter(Double.POSITIVE_INFINITY);
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkShifter.validator(-340))
+                .withIncrementalShift(true)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps()).hasSize(6);
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(dichotomyResult.getLowestInvalidStepValue()).isEqualTo(-250, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(networkShifter.fullShifts).containsExactly(-1000.);
+        assertions.assertThat(networkShifter.incrementalShifts).containsExactly("1000.0<-1000.0", "0.0<-1000.0", "-500.0<-1000.0", "-250.0<-500.0", "-375.0<-500.0");
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkIncrementalShiftRetainsOneShiftedVariantPerBracketEnd() {
+        final RecordingIncrementalNetworkShifter networkShifter = new RecordingIncrementalNetworkShifter(Double.POSITIVE_INFINITY);
+        final NetworkValidator<Object> recordedValidator = networkShifter.validator(-340);
+        final List<Integer> variantCounts = new ArrayList<>();
+        final NetworkValidator<Object> networkValidator = (network, lastDichotomyStepResult) -> {
+            variantCounts.add(network.getVariantManager().getVariantIds().size());
+            return recordedValidator.validateNetwork(network, lastDichotomyStepResult);
+        };
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkValidator)
+                .withIncrementalShift(true)
+                .build();
+
+        engine.run(initialNetwork);
+
+        // Initial variant, the two retained bracket steps, the variant of the validated step and its shifted copy
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(variantCounts).hasSize(6).allMatch(variantCount -> variantCount <= 5);
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkIncrementalShiftDoesNotCarryOverValidatorChanges() {
+        final RecordingIncrementalNetworkShifter networkShifter = new RecordingIncrementalNetworkShifter(Double.POSITIVE_INFINITY);
+        final NetworkValidator<Object> recordedValidator = networkShifter.validator(-340);
+        final double initialTargetP = initialNetwork.getGeneratorStream().findFirst().orElseThrow().getTargetP();
+        final List<Double> validatedTargetPs = new ArrayList<>();
+        final NetworkValidator<Object> networkValidator = (network, lastDichotomyStepResult) -> {
+            // Stands for a remedial action applied by the validator on the step variant
+            final Generator generator = network.getGeneratorStream().findFirst().orElseThrow();
+            validatedTargetPs.add(generator.getTargetP());
+            generator.setTargetP(generator.getTargetP() + 100);
+            return recordedValidator.validateNetwork(network, lastDichotomyStepResult);
+        };
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkValidator)
+                .withIncrementalShift(true)
+                .build();
+
+        engine.run(initialNetwork);
+
+        Assertions.assertThat(validatedTargetPs).hasSize(6).containsOnly(initialTargetP);
+    }
+
+    @Test
+    void checkIncrementalShiftDoesNotRetainVariantOfFailedValidation() {
+        final RecordingIncrementalNetworkShifter networkShifter = new RecordingIncrementalNetworkShifter(Double.POSITIVE_INFINITY);
+        final NetworkValidator<Object> recordedValidator = networkShifter.validator(-340);
+        final NetworkValidator<Object> networkValidator = (network, lastDichotomyStepResult) -> {
+            final DichotomyStepResult<Object> stepResult = recordedValidator.validateNetwork(network, lastDichotomyStepResult);
+            if (networkShifter.stepValueByVariant.get(network.getVariantManager().getWorkingVariantId()) == -500) {
+                throw new ValidationException("Validation failed");
+            }
+            return stepResult;
+        };
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkValidator)
+                .withIncrementalShift(true)
+                .build();
+
+        engine.run(initialNetwork);
+
+        // The next step after the failed one is shifted from the other end of the bracket
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(networkShifter.incrementalShifts).contains("-750.0<-1000.0").noneMatch(shift -> shift.endsWith("<-500.0"));
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkIncrementalShiftFallsBackToFullShiftOnGlskLimitation() {
+        final RecordingIncrementalNetworkShifter networkShifter = new RecordingIncrementalNetworkShifter(1000);
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkShifter.validator(-340))
+                .withIncrementalShift(true)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(networkShifter.fullShifts).containsExactly(-1000., 1000.);
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkThatEngineRefusesLossyStepResultStoreUnlessAccepted() {
+        try (FileStepResultStore<Object> store = FileStepResultStore.createTemporary(new ValidationDataStepResultCodec<>())) {
+            final DichotomyEngine.Builder<Object> builder = DichotomyEngine.builder()
+                    .withIndex(new Index<>(-1000, 1000, 200, StepResultRetention.keepIntervalAndLastSteps(1), store))
+                    .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                    .withNetworkShifter(mock(NetworkShifter.class))
+                    .withNetworkValidator(new NetworkValidatorMock(-340));
+
+            Assertions.assertThatExceptionOfType(DichotomyException.class)
+                    .isThrownBy(builder::build);
+            Assertions.assertThat(builder.withLossyStepResults(true).build()).isNotNull();
+        }
+    }
+
+    @Test
+    void checkThatEngineFailsWhenIncrementalShiftNotSupported() {
+        final DichotomyEngine.Builder<Object> builder = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withIncrementalShift(true);
+
+        Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(builder::build);
+    }
+
+    @Test
+    void checkSpeculativeShift() {
+        final Map<String, Double> stepValueByVariant = new ConcurrentHashMap<>();
+        final Set<Double> shiftedStepValues = ConcurrentHashMap.newKeySet();
+        final NetworkShifter networkShifter = (stepValue, network) -> {
+            shiftedStepValues.add(stepValue);
+            stepValueByVariant.put(network.getVariantManager().getWorkingVariantId(), stepValue);
+        };
+        final NetworkValidator<Object> networkValidator = (network, lastDichotomyStepResult) ->
+            DichotomyStepResult.fromNetworkValidationResult(null, null, stepValueByVariant.get(network.getVariantManager().getWorkingVariantId()) < -340);
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkValidator)
+                .withSpeculativeShift(true)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps()).hasSize(6);
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(dichotomyResult.getLowestInvalidStepValue()).isEqualTo(-250, Assertions.withPrecision(EPSILON));
+        // Candidates of both branches are shifted, whatever the outcome of the current step
+        assertions.assertThat(shiftedStepValues).containsExactlyInAnyOrder(-1000., 1000., 0., 500., -500., -750., -250., -125., -375.);
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertThat(initialNetwork.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkSpeculativeShiftWithGlskLimitation() {
+        final Map<String, Double> stepValueByVariant = new ConcurrentHashMap<>();
+        final NetworkShifter networkShifter = (stepValue, network) -> {
+            if (stepValue > 500) {
+                throw new GlskLimitationException("GLSK limits reached");
+            }
+            stepValueByVariant.put(network.getVariantManager().getWorkingVariantId(), stepValue);
+        };
+        final NetworkValidator<Object> networkValidator = (network, lastDichotomyStepResult) ->
+            DichotomyStepResult.fromNetworkValidationResult(null, null, stepValueByVariant.get(network.getVariantManager().getWorkingVariantId()) < -340);
+        final Index<Object> index = new Index<>(-1000, 1000, 200);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkValidator)
+                .withSpeculativeShift(true)
+                .build();
+
+        final DichotomyResult<Object> dichotomyResult = engine.run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(index.testedSteps().get(1).getRight().getReasonInvalid()).isEqualTo(ReasonInvalid.GLSK_LIMITATION);
+        assertions.assertThat(dichotomyResult.getHighestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(initialNetwork.getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkThatEngineFailsWhenSpeculativeShiftWithParallelism() {
+        final DichotomyEngine.Builder<Object> builder = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withParallelism(2)
+                .withSpeculativeShift(true);
+
+        Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(builder::build);
+    }
+
+    private static NetworkValidator<Object> countingValidator(final double limit, final AtomicInteger validationsCount) {
+        final NetworkValidator<Object> networkValidator = new NetworkValidatorMock(limit);
+        return (network, lastDichotomyStepResult) -> {
+            validationsCount.incrementAndGet();
+            return networkValidator.validateNetwork(network, lastDichotomyStepResult);
+        };
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-300, 200, -900})
+    void checkCoarseValidationBracketIsConfirmedByFullValidation(final double coarseLimit) {
+        final AtomicInteger fullValidationsCount = new AtomicInteger();
+        final AtomicInteger coarseValidationsCount = new AtomicInteger();
+        final Index<Object> index = new Index<>(-1000, 1000, 10);
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(countingValidator(-340, fullValidationsCount))
+                .withCoarseValidation(countingValidator(coarseLimit, coarseValidationsCount), 200)
+                .build();
+
+        final DichotomyResult<Object> result = engine.run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(coarseValidationsCount.get()).isPositive();
+        assertions.assertThat(index.testedStepsCount()).isEqualTo(fullValidationsCount.get());
+        assertions.assertThat(result.getHighestValidStepValue()).isLessThan(-340).isGreaterThanOrEqualTo(-350);
+        assertions.assertThat(result.getLowestInvalidStepValue()).isGreaterThanOrEqualTo(-340).isLessThanOrEqualTo(-330);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkCoarseValidationSavesFullValidations() {
+        final AtomicInteger fullValidationsCount = new AtomicInteger();
+        DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 10))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(countingValidator(-340, fullValidationsCount))
+                .withCoarseValidation(new NetworkValidatorMock(-340), 200)
+                .build()
+                .run(initialNetwork);
+        final Index<Object> fullIndex = new Index<>(-1000, 1000, 10);
+        DichotomyEngine.builder()
+                .withIndex(fullIndex)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .build()
+                .run(initialNetwork);
+
+        Assertions.assertThat(fullValidationsCount.get()).isLessThan(fullIndex.testedStepsCount());
+    }
+
+    @Test
+    void checkCoarseValidationKeepsConfiguredIndexStrategy() {
+        final IndexStrategy<Object> rangeDivision = new RangeDivisionIndexStrategy<>(true);
+        final List<Double> fineIndexValues = new ArrayList<>();
+        final IndexStrategy<Object> recordingStrategy = new IndexStrategy<>() {
+            @Override
+            public double nextValue(final Index<Object> index) {
+                final double nextValue = rangeDivision.nextValue(index);
+                if (index.precision() == 10) {
+                    fineIndexValues.add(nextValue);
+                }
+                return nextValue;
+            }
+        };
+        final DichotomyResult<Object> result = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 10))
+                .withIndexStrategy(recordingStrategy)
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withCoarseValidation(new NetworkValidatorMock(-340), 200)
+                .build()
+                .run(initialNetwork);
+
+        // Coarse bracket is [-375, -250], its ends are tested first with a margin of the index precision
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(fineIndexValues).isNotEmpty().allMatch(value -> value > -385 && value < -240);
+        assertions.assertThat(result.getHighestValidStepValue()).isLessThan(-340).isGreaterThanOrEqualTo(-350);
+        assertions.assertThat(result.getLowestInvalidStepValue()).isGreaterThanOrEqualTo(-340).isLessThanOrEqualTo(-330);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkCoarseAndFinePhasesShareMaxIteration() {
+        final AtomicInteger fullValidationsCount = new AtomicInteger();
+        final AtomicInteger coarseValidationsCount = new AtomicInteger();
+        final Index<Object> index = new Index<>(-1000, 1000, 10);
+        DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(countingValidator(-340, fullValidationsCount))
+                .withCoarseValidation(countingValidator(-340, coarseValidationsCount), 200)
+                .withMaxIteration(10)
+                .build()
+                .run(initialNetwork);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(coarseValidationsCount.get()).isEqualTo(6);
+        assertions.assertThat(fullValidationsCount.get()).isEqualTo(4);
+        assertions.assertThat(index.isWithinPrecision()).isFalse();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkThatAsynchronousRunFailsWithCoarseValidation() {
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 10))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withCoarseValidation(new NetworkValidatorMock(-340), 200)
+                .build();
+
+        Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(() -> engine.runAsync(initialNetwork, Runnable::run))
+                .withMessage("Coarse validation is not available for asynchronous dichotomy runs.");
+    }
+
+    @Test
+    void checkThatEngineFailsWhenCoarsePrecisionIsNotGreaterThanPrecision() {
+        final DichotomyEngine.Builder<Object> builder = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 200))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator(new NetworkValidatorMock(-340))
+                .withCoarseValidation(new NetworkValidatorMock(-340), 100);
+
+        Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(builder::build)
+                .withMessage("Coarse precision of the dichotomy engine should be greater than the precision of the index.");
+    }
+
+    private static DichotomyStepResult<Object> warmStartValidatorInput(final ValidatorWarmStart validatorWarmStart, final Index<Object> index,
+                                                                       final DichotomyStepResult<Object> lastDichotomyStepResult,
+                                                                       final Network network) throws RaoFailureException {
+        final List<DichotomyStepResult<Object>> validatorInputs = new ArrayList<>();
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+                .withIndex(index)
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator((stepNetwork, warmStartStepResult) -> {
+                    validatorInputs.add(warmStartStepResult);
+                    return DichotomyStepResult.fromNetworkValidationResult(null, null, true);
+                })
+                .withValidatorWarmStart(validatorWarmStart)
+                .build();
+        engine.validate(-100, network, network.getVariantManager().getWorkingVariantId(), lastDichotomyStepResult);
+        return validatorInputs.getFirst();
+    }
+
+    @Test
+    void checkValidatorWarmStartStepResult() throws RaoFailureException {
+        final DichotomyStepResult<Object> lowValidStep = DichotomyStepResult.fromNetworkValidationResult(null, null, true);
+        final DichotomyStepResult<Object> highestValidStep = DichotomyStepResult.fromNetworkValidationResult(null, null, true);
+        final DichotomyStepResult<Object> lowestInvalidStep = DichotomyStepResult.fromNetworkValidationResult(null, null, false);
+        final Index<Object> index = new Index<>(-1000, 1000, 10);
+        index.addDichotomyStepResult(-1000, lowValidStep);
+        index.addDichotomyStepResult(0, lowestInvalidStep);
+        index.addDichotomyStepResult(-500, highestValidStep);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(warmStartValidatorInput(ValidatorWarmStart.LAST_STEP, index, highestValidStep, initialNetwork)).isSameAs(highestValidStep);
+        assertions.assertThat(warmStartValidatorInput(ValidatorWarmStart.CLOSEST_BRACKET_STEP, index, highestValidStep, initialNetwork)).isSameAs(lowestInvalidStep);
+        assertions.assertThat(warmStartValidatorInput(ValidatorWarmStart.HIGHEST_VALID_STEP, index, lowestInvalidStep, initialNetwork)).isSameAs(highestValidStep);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkClosestBracketStepSkipsFailedStep() throws RaoFailureException {
+        final DichotomyStepResult<Object> highestValidStep = DichotomyStepResult.fromNetworkValidationResult(null, null, true);
+        final DichotomyStepResult<Object> glskLimitationStep = DichotomyStepResult.fromFailure(ReasonInvalid.GLSK_LIMITATION, "GLSK limits reached");
+        final Index<Object> index = new Index<>(-1000, 1000, 10);
+        index.addDichotomyStepResult(-1000, highestValidStep);
+        index.addDichotomyStepResult(0, glskLimitationStep);
+
+        Assertions.assertThat(warmStartValidatorInput(ValidatorWarmStart.CLOSEST_BRACKET_STEP, index, glskLimitationStep, initialNetwork))
+                .isSameAs(highestValidStep);
+    }
+
+    @Test
+    void checkHighestValidStepWarmStartOnlyGivesSecureSteps() {
+        final List<DichotomyStepResult<Object>> validatorInputs = new ArrayList<>();
+        final NetworkValidator<Object> networkValidator = new NetworkValidatorMock(-340);
+        final DichotomyResult<Object> result = DichotomyEngine.builder()
+                .withIndex(new Index<>(-1000, 1000, 10))
+                .withIndexStrategy(new RangeDivisionIndexStrategy<>(false))
+                .withNetworkShifter(mock(NetworkShifter.class))
+                .withNetworkValidator((network, warmStartStepResult) -> {
+                    validatorInputs.add(warmStartStepResult);
+                    return networkValidator.validateNetwork(network, warmStartStepResult);
+                })
+                .withValidatorWarmStart(ValidatorWarmStart.HIGHEST_VALID_STEP)
+                .build()
+                .run(initialNetwork);
+
+        Assertions.assertThat(result.getHighestValidStepValue()).isLessThan(-340).isGreaterThanOrEqualTo(-350);
+        // The maximum value is tested first, then the minimum value with the last step as no valid step is known yet
+        Assertions.assertThat(validatorInputs.subList(2, validatorInputs.size())).allMatch(DichotomyStepResult::isValid);
+    }
+
+    /**
+     * Records shifts and the step value each variant has been shifted to. Incremental shifts wider than the given
+     * limit raise a GLSK limitation.
+     */
+    private static final class RecordingIncrementalNetworkShifter implements IncrementalNetworkShifter {
+        private final double incrementalShiftLimit;
+        private final Map<String, Double> stepValueByVariant = new ConcurrentHashMap<>();
+        private final List<Double> fullShifts = new ArrayList<>();
+        private final List<String> incrementalShifts = new ArrayList<>();
+
+        private RecordingIncrementalNetworkShifter(final double incrementalShiftLimit) {
+            this.incrementalShiftLimit = incrementalShiftLimit;
+        }
+
+        @Override
+        public void shiftNetwork(final double stepValue, final Network network) {
+            fullShifts.add(stepValue);
+            stepValueByVariant.put(network.getVariantManager().getWorkingVariantId(), stepValue);
+        }
+
+        @Override
+        public void shiftNetworkIncrementally(final double shiftedStepValue, final double stepValue, final Network network) throws GlskLimitationException {
+            if (Math.abs(stepValue - shiftedStepValue) > incrementalShiftLimit) {
+                throw new GlskLimitationException("GLSK limits reached");
+            }
+            incrementalShifts.add(stepValue + "<" + shiftedStepValue);
+            stepValueByVariant.put(network.getVariantManager().getWorkingVariantId(), stepValue);
+        }
+
+        private NetworkValidator<Object> validator(final double limit) {
+            return (network, lastDichotomyStepResult) -> DichotomyStepResult.fromNetworkValidationResult(null, null,
+                stepValueByVariant.get(network.getVariantManager().getWorkingVariantId()) < limit);
+        }
+    }
+
     private static void assertResultValidEquals(SoftAssertions assertions, Pair<Double, DichotomyStepResult<Object>> index, int expected) {
         assertions.assertThat(index.getLeft()).isEqualTo(expected, Assertions.withPrecision(EPSILON));
         assertions.assertThat(index.getRight().isValid()).isTrue();
@@ -801,7 +1777,16 @@ class DichotomyEngineTest {
                 .hasFieldOrPropertyWithValue("interruptionStrategy", null)
                 .hasFieldOrPropertyWithValue("networkExporter", null)
                 .hasFieldOrPropertyWithValue("maxIteration", 100)
-                .hasFieldOrPropertyWithValue("runId", null);
+                .hasFieldOrPropertyWithValue("runId", null)
+                .hasFieldOrPropertyWithValue("parallelism", 1)
+                .hasFieldOrPropertyWithValue("checkpointStore", null)
+                .hasFieldOrPropertyWithValue("timeBudget", null)
+                .hasFieldOrPropertyWithValue("variantReuse", false)
+                .hasFieldOrPropertyWithValue("incrementalShift", false)
+                .hasFieldOrPropertyWithValue("speculativeShift", false)
+                .hasFieldOrPropertyWithValue("coarseNetworkValidator", null)
+                .hasFieldOrPropertyWithValue("validatorWarmStart", ValidatorWarmStart.LAST_STEP)
+                .hasFieldOrPropertyWithValue("lossyStepResults", false);
     }
 
     @Test
@@ -822,6 +1807,7 @@ class DichotomyEngineTest {
                 .withNetworkExporter(networkExporter)
                 .withMaxIteration(72)
                 .withRunId("0")
+                .withParallelism(4)
                 .build();
 
         Assertions.assertThat(engine)
@@ -833,7 +1819,8 @@ class DichotomyEngineTest {
                 .hasFieldOrPropertyWithValue("networkValidator", networkValidator)
                 .hasFieldOrPropertyWithValue("networkExporter", networkExporter)
                 .hasFieldOrPropertyWithValue("maxIteration", 72)
-                .hasFieldOrPropertyWithValue("runId", "0");
+                .hasFieldOrPropertyWithValue("runId", "0")
+                .hasFieldOrPropertyWithValue("parallelism", 4);
     }
 
     @Test
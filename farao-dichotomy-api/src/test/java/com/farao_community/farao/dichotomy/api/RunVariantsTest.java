@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunVariantsTest {
+    private Network network;
+    private String initialVariant;
+
+    @BeforeEach
+    void setUp() {
+        final String networkFilename = "20210901_2230_test_network.uct";
+        network = Network.read(networkFilename, getClass().getResourceAsStream(networkFilename));
+        initialVariant = network.getVariantManager().getWorkingVariantId();
+    }
+
+    @Test
+    void checkCloseStepValuesGetDistinctVariants() {
+        try (RunVariants runVariants = new RunVariants(network, initialVariant, false)) {
+            final String firstVariant = runVariants.createStepVariant(1000.2, initialVariant);
+            final String secondVariant = runVariants.createStepVariant(1000.7, initialVariant);
+            final String integerVariant = runVariants.createStepVariant(-340., initialVariant);
+
+            assertThat(firstVariant).isEqualTo(initialVariant + "-ScaledBy-1000.2");
+            assertThat(secondVariant).isEqualTo(initialVariant + "-ScaledBy-1000.7");
+            assertThat(integerVariant).isEqualTo(initialVariant + "-ScaledBy--340");
+            assertThat(network.getVariantManager().getVariantIds()).hasSize(4);
+
+            runVariants.releaseStepVariant(firstVariant);
+            runVariants.releaseStepVariant(secondVariant);
+            runVariants.releaseStepVariant(integerVariant);
+        }
+        assertThat(network.getVariantManager().getVariantIds()).containsExactly(initialVariant);
+    }
+}
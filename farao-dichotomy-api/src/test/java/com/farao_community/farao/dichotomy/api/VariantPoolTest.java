@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api;
+
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VariantPoolTest {
+    private Network network;
+    private String initialVariant;
+
+    @BeforeEach
+    void setUp() {
+        final String networkFilename = "20210901_2230_test_network.uct";
+        network = Network.read(networkFilename, getClass().getResourceAsStream(networkFilename));
+        initialVariant = network.getVariantManager().getWorkingVariantId();
+    }
+
+    @Test
+    void checkVariantsCreatedOnlyWhenNoneAvailable() {
+        try (VariantPool variantPool = new VariantPool(network, initialVariant)) {
+            final String firstVariant = variantPool.acquire();
+            final String secondVariant = variantPool.acquire();
+            variantPool.release(firstVariant);
+            final String thirdVariant = variantPool.acquire();
+
+            assertThat(secondVariant).isNotEqualTo(firstVariant);
+            assertThat(thirdVariant).isEqualTo(firstVariant);
+            assertThat(variantPool.size()).isEqualTo(2);
+            assertThat(network.getVariantManager().getVariantIds()).hasSize(3);
+        }
+        assertThat(network.getVariantManager().getVariantIds()).containsExactly(initialVariant);
+    }
+
+    @Test
+    void checkAcquiredVariantIsResetToInitialState() {
+        final Generator generator = network.getGeneratorStream().findFirst().orElseThrow();
+        final double initialTargetP = generator.getTargetP();
+        try (VariantPool variantPool = new VariantPool(network, initialVariant)) {
+            final String variant = variantPool.acquire();
+            network.getVariantManager().setWorkingVariant(variant);
+            generator.setTargetP(initialTargetP + 100);
+            network.getVariantManager().setWorkingVariant(initialVariant);
+            variantPool.release(variant);
+
+            assertThat(variantPool.acquire()).isEqualTo(variant);
+            network.getVariantManager().setWorkingVariant(variant);
+            assertThat(generator.getTargetP()).isEqualTo(initialTargetP);
+            network.getVariantManager().setWorkingVariant(initialVariant);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.batch;
+
+import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.NetworkValidatorMock;
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.powsybl.iidm.network.Network;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+class DichotomyBatchRunnerTest {
+    private static final String NETWORK_FILE = "/com/farao_community/farao/dichotomy/api/20210901_2230_test_network.uct";
+    private static final double EPSILON = 1e-3;
+
+    private DichotomyJob<Object> buildJob(String jobId, double limit) {
+        return buildJob(jobId, new NetworkValidatorMock(limit));
+    }
+
+    private DichotomyJob<Object> buildJob(String jobId, NetworkValidator<Object> networkValidator) {
+        final Network network = Network.read("20210901_2230_test_network.uct", getClass().getResourceAsStream(NETWORK_FILE));
+        return new DichotomyJob<>(jobId, network, buildEngine(networkValidator));
+    }
+
+    private static DichotomyEngine<Object> buildEngine(NetworkValidator<Object> networkValidator) {
+        return DichotomyEngine.builder()
+            .withIndex(new Index<>(-1000, 1000, 200))
+            .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+            .withNetworkShifter(mock(NetworkShifter.class))
+            .withNetworkValidator(networkValidator)
+            .build();
+    }
+
+    @Test
+    void checkAllJobsAreRunOnSharedPool() throws InterruptedException {
+        final List<DichotomyJob<Object>> jobs = List.of(buildJob("job-1", -340), buildJob("job-2", 150), buildJob("job-3", 1500));
+
+        final DichotomyBatch<Object> batch;
+        final Set<String> terminatedJobIds = new HashSet<>();
+        try (DichotomyBatchRunner runner = new DichotomyBatchRunner(2)) {
+            batch = runner.submit(jobs);
+            for (int i = 0; i < jobs.size(); i++) {
+                final DichotomyJobResult<Object> jobResult = batch.pollTerminated(30, TimeUnit.SECONDS);
+                Assertions.assertThat(jobResult).isNotNull();
+                Assertions.assertThat(jobResult.status()).isEqualTo(DichotomyJobStatus.COMPLETED);
+                terminatedJobIds.add(jobResult.jobId());
+            }
+        }
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(terminatedJobIds).containsExactlyInAnyOrder("job-1", "job-2", "job-3");
+        assertions.assertThat(batch.isDone()).isTrue();
+        assertions.assertThat(batch.getTerminatedJobsCount()).isEqualTo(3);
+        assertions.assertThat(batch.getResult("job-1").join().getHighestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(batch.getResult("job-2").join().getHighestValidStepValue()).isEqualTo(125, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(batch.getResult("job-3").join().getHighestValidStepValue()).isEqualTo(1000, Assertions.withPrecision(EPSILON));
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkConcurrentJobsAreBounded() throws InterruptedException {
+        final List<DichotomyJob<Object>> jobs = List.of(buildJob("job-1", -340), buildJob("job-2", 150));
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        final DichotomyBatch<Object> batch = new DichotomyBatchRunner(executor, 1).submit(jobs);
+
+        Assertions.assertThat(batch.getStatus("job-2")).isIn(DichotomyJobStatus.QUEUED, DichotomyJobStatus.RUNNING, DichotomyJobStatus.COMPLETED);
+        final DichotomyJobResult<Object> firstTerminated = batch.takeTerminated();
+        final DichotomyJobResult<Object> secondTerminated = batch.takeTerminated();
+        executor.shutdown();
+
+        Assertions.assertThat(firstTerminated.jobId()).isEqualTo("job-1");
+        Assertions.assertThat(secondTerminated.jobId()).isEqualTo("job-2");
+        Assertions.assertThat(batch.getStatuses()).containsValues(DichotomyJobStatus.COMPLETED);
+    }
+
+    @Test
+    void checkCancelledBatch() throws InterruptedException {
+        final List<DichotomyJob<Object>> jobs = List.of(buildJob("job-1", -340), buildJob("job-2", 150));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final DichotomyBatchRunner runner = new DichotomyBatchRunner(executor, 1);
+
+        final CountDownLatch batchCancelled = new CountDownLatch(1);
+        // keeps the single worker busy until the batch is cancelled
+        executor.execute(() -> {
+            try {
+                batchCancelled.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final DichotomyBatch<Object> batch = runner.submit(jobs);
+        batch.cancel();
+        batchCancelled.countDown();
+        final DichotomyJobResult<Object> firstTerminated = batch.takeTerminated();
+        final DichotomyJobResult<Object> secondTerminated = batch.takeTerminated();
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThat(firstTerminated.status()).isEqualTo(DichotomyJobStatus.CANCELLED);
+        Assertions.assertThat(secondTerminated.status()).isEqualTo(DichotomyJobStatus.CANCELLED);
+        Assertions.assertThat(batch.getResult("job-1")).isCancelled();
+        Assertions.assertThat(batch.isDone()).isTrue();
+    }
+
+    @Test
+    void checkJobProgressIsReported() throws InterruptedException {
+        final List<DichotomyJob<Object>> jobs = List.of(buildJob("job-1", -340));
+
+        final DichotomyBatch<Object> batch;
+        try (DichotomyBatchRunner runner = new DichotomyBatchRunner(1)) {
+            batch = runner.submit(jobs);
+            Assertions.assertThat(batch.pollTerminated(30, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        final DichotomyJobProgress progress = batch.getProgress("job-1");
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(progress.status()).isEqualTo(DichotomyJobStatus.COMPLETED);
+        assertions.assertThat(progress.completedIterations()).isEqualTo(6);
+        assertions.assertThat(progress.highestValidStepValue()).isEqualTo(-375, Assertions.withPrecision(EPSILON));
+        assertions.assertThat(progress.lowestInvalidStepValue()).isEqualTo(-250, Assertions.withPrecision(EPSILON));
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkDuplicatedJobIdsAreRejected() {
+        final List<DichotomyJob<Object>> jobs = List.of(buildJob("job", -340), buildJob("job", 150));
+        try (DichotomyBatchRunner runner = new DichotomyBatchRunner(1)) {
+            Assertions.assertThatExceptionOfType(DichotomyException.class).isThrownBy(() -> runner.submit(jobs));
+        }
+    }
+
+    @Test
+    void checkSlotOfCancelledJobIsFreedOnceItsValidationIsOver() throws InterruptedException {
+        final CountDownLatch validationStarted = new CountDownLatch(1);
+        final CountDownLatch validationReleased = new CountDownLatch(1);
+        final NetworkValidatorMock delegate = new NetworkValidatorMock(-340);
+        final DichotomyJob<Object> blockedJob = buildJob("job-1", (network, lastDichotomyStepResult) -> {
+            validationStarted.countDown();
+            try {
+                validationReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.validateNetwork(network, lastDichotomyStepResult);
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        final DichotomyBatch<Object> batch = new DichotomyBatchRunner(executor, 1).submit(List.of(blockedJob, buildJob("job-2", 150)));
+        Assertions.assertThat(validationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        batch.getResult("job-1").cancel(true);
+        final DichotomyJobResult<Object> firstTerminated = batch.takeTerminated();
+        final DichotomyJobStatus secondJobStatusWhileFirstRuns = batch.getStatus("job-2");
+        validationReleased.countDown();
+        final DichotomyJobResult<Object> secondTerminated = batch.takeTerminated();
+        executor.shutdown();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(firstTerminated.jobId()).isEqualTo("job-1");
+        assertions.assertThat(firstTerminated.status()).isEqualTo(DichotomyJobStatus.CANCELLED);
+        assertions.assertThat(secondJobStatusWhileFirstRuns).isEqualTo(DichotomyJobStatus.QUEUED);
+        assertions.assertThat(secondTerminated.jobId()).isEqualTo("job-2");
+        assertions.assertThat(secondTerminated.status()).isEqualTo(DichotomyJobStatus.COMPLETED);
+        assertions.assertThat(blockedJob.network().getVariantManager().getVariantIds()).hasSize(1);
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkJobFailingToStartFreesItsSlot() throws InterruptedException {
+        final DichotomyJob<Object> failingJob = new DichotomyJob<>("job-1", mock(Network.class), buildEngine(new NetworkValidatorMock(-340)));
+        final List<DichotomyJob<Object>> jobs = List.of(failingJob, buildJob("job-2", 150));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        final DichotomyBatch<Object> batch = new DichotomyBatchRunner(executor, 1).submit(jobs);
+        final DichotomyJobResult<Object> firstTerminated = batch.pollTerminated(30, TimeUnit.SECONDS);
+        final DichotomyJobResult<Object> secondTerminated = batch.pollTerminated(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(firstTerminated.jobId()).isEqualTo("job-1");
+        assertions.assertThat(firstTerminated.status()).isEqualTo(DichotomyJobStatus.FAILED);
+        assertions.assertThat(firstTerminated.failure()).isNotNull();
+        assertions.assertThat(batch.getResult("job-1")).isCompletedExceptionally();
+        assertions.assertThat(secondTerminated.status()).isEqualTo(DichotomyJobStatus.COMPLETED);
+        assertions.assertThat(batch.isDone()).isTrue();
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkSharedNetworkIsRejected() {
+        final DichotomyJob<Object> job = buildJob("job-1", -340);
+        final List<DichotomyJob<Object>> jobs = List.of(job, new DichotomyJob<>("job-2", job.network(), buildEngine(new NetworkValidatorMock(150))));
+        try (DichotomyBatchRunner runner = new DichotomyBatchRunner(1)) {
+            Assertions.assertThatExceptionOfType(DichotomyException.class)
+                .isThrownBy(() -> runner.submit(jobs))
+                .withMessage("Network of job job-2 is shared with another job of the same dichotomy batch.");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.checkpoint;
+
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileCheckpointStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void checkSaveAndLoad() {
+        final CheckpointStore store = new FileCheckpointStore(directory);
+        final DichotomyCheckpoint checkpoint = new DichotomyCheckpoint("run", -1000, 1000, 50, 2, List.of(
+            new DichotomyCheckpoint.Step(-1000, ReasonInvalid.NONE, null),
+            new DichotomyCheckpoint.Step(1000, ReasonInvalid.GLSK_LIMITATION, "GLSK limits reached")));
+
+        store.save(checkpoint);
+
+        assertThat(store.load("run")).contains(checkpoint);
+        assertThat(store.load("other-run")).isEmpty();
+    }
+
+    @Test
+    void checkSaveReplacesPreviousCheckpoint() throws Exception {
+        final CheckpointStore store = new FileCheckpointStore(directory);
+        store.save(new DichotomyCheckpoint("run", -1000, 1000, 50, 0, List.of()));
+        final DichotomyCheckpoint checkpoint = new DichotomyCheckpoint("run", -1000, 1000, 50, 1, List.of(
+            new DichotomyCheckpoint.Step(-1000, ReasonInvalid.NONE, null)));
+
+        store.save(checkpoint);
+
+        assertThat(store.load("run")).contains(checkpoint);
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(directory.resolve("run.json"));
+        }
+    }
+
+    @Test
+    void checkDelete() {
+        final CheckpointStore store = new FileCheckpointStore(directory);
+        store.save(new DichotomyCheckpoint("run", -1000, 1000, 50, 0, List.of()));
+
+        store.delete("run");
+
+        assertThat(store.load("run")).isEmpty();
+    }
+
+    @Test
+    void checkRunIdCannotEscapeDirectory() throws Exception {
+        final Path storeDirectory = directory.resolve("checkpoints");
+        final CheckpointStore store = new FileCheckpointStore(storeDirectory);
+        final DichotomyCheckpoint checkpoint = new DichotomyCheckpoint("../2021-09-01T22:30/FR-ES", -1000, 1000, 50, 0, List.of());
+
+        store.save(checkpoint);
+
+        assertThat(store.load("../2021-09-01T22:30/FR-ES")).contains(checkpoint);
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(storeDirectory);
+        }
+        try (var files = Files.list(storeDirectory)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.domain;
+
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.RaoResultMock;
+import com.farao_community.farao.dichotomy.api.TwoDimensionalNetworkShifter;
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiPredicate;
+
+class SecureDomainEngineTest {
+    private static final String NETWORK_FILE = "/com/farao_community/farao/dichotomy/api/20210901_2230_test_network.uct";
+    private static final double EPSILON = 1e-3;
+    private static final BiPredicate<Double, Double> POLYGON_DOMAIN = (exchangeA, exchangeB) -> exchangeA <= 400 && exchangeA + exchangeB <= 600 && exchangeB >= -500;
+
+    private Network network;
+    private final Map<String, double[]> shiftedPoints = new ConcurrentHashMap<>();
+    private final List<double[]> validatedPoints = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        network = Network.read("20210901_2230_test_network.uct", getClass().getResourceAsStream(NETWORK_FILE));
+        shiftedPoints.clear();
+        validatedPoints.clear();
+    }
+
+    private TwoDimensionalNetworkShifter recordingShifter() {
+        return (exchangeA, exchangeB, stepNetwork) -> shiftedPoints.put(stepNetwork.getVariantManager().getWorkingVariantId(), new double[] {exchangeA, exchangeB});
+    }
+
+    private NetworkValidator<Object> validator(BiPredicate<Double, Double> secureDomain) {
+        return (stepNetwork, lastDichotomyStepResult) -> {
+            double[] point = shiftedPoints.get(stepNetwork.getVariantManager().getWorkingVariantId());
+            validatedPoints.add(point);
+            return DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(secureDomain.test(point[0], point[1])), null);
+        };
+    }
+
+    private SecureDomainEngine.Builder<Object> builder(BiPredicate<Double, Double> secureDomain) {
+        return SecureDomainEngine.builder()
+            .withNetworkShifter(recordingShifter())
+            .withNetworkValidator(validator(secureDomain))
+            .withReferencePoint(0, 0)
+            .withBounds(-1000, 1000, -1000, 1000)
+            .withPrecision(10);
+    }
+
+    @Test
+    void checkBoundaryIsBracketedInEachDirection() {
+        SecureDomainResult<Object> result = builder(POLYGON_DOMAIN)
+            .withBoundaryTolerance(50)
+            .build()
+            .run(network);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(result.boundaryPoints()).hasSizeGreaterThan(8).hasSizeLessThanOrEqualTo(32);
+        double previousAngle = -1;
+        for (BoundaryPoint<Object> point : result.boundaryPoints()) {
+            assertions.assertThat(point.angle()).isGreaterThan(previousAngle);
+            previousAngle = point.angle();
+            assertions.assertThat(POLYGON_DOMAIN.test(point.validExchangeA(), point.validExchangeB())).isTrue();
+            if (!point.reachesBounds()) {
+                assertions.assertThat(POLYGON_DOMAIN.test(point.invalidExchangeA(), point.invalidExchangeB())).isFalse();
+                assertions.assertThat(point.dichotomyResult().getLowestInvalidStepValue() - point.validDistance()).isLessThanOrEqualTo(10);
+            }
+        }
+        assertions.assertAll();
+    }
+
+    @Test
+    void checkReferencePointIsValidatedOnlyOnce() {
+        SecureDomainResult<Object> result = builder(POLYGON_DOMAIN).build().run(network);
+
+        long referenceValidations = validatedPoints.stream()
+            .filter(point -> Math.abs(point[0]) < EPSILON && Math.abs(point[1]) < EPSILON)
+            .count();
+        Assertions.assertThat(referenceValidations).isEqualTo(1);
+        Assertions.assertThat(result.validationsCount()).isEqualTo(validatedPoints.size());
+    }
+
+    @Test
+    void checkDirectionsAreNotRefinedOnDomainBounds() {
+        SecureDomainResult<Object> result = builder((exchangeA, exchangeB) -> true).build().run(network);
+
+        Assertions.assertThat(result.boundaryPoints()).hasSize(8).allMatch(BoundaryPoint::reachesBounds);
+        // Reference point once, then the bounds of the domain in each direction
+        Assertions.assertThat(result.validationsCount()).isEqualTo(9);
+        BoundaryPoint<Object> diagonalPoint = result.boundaryPoints().get(1);
+        Assertions.assertThat(diagonalPoint.validExchangeA()).isCloseTo(1000, Assertions.within(EPSILON));
+        Assertions.assertThat(diagonalPoint.validExchangeB()).isCloseTo(1000, Assertions.within(EPSILON));
+    }
+
+    @Test
+    void checkThatEngineFailsWhenReferencePointIsOutOfBounds() {
+        SecureDomainEngine.Builder<Object> builder = builder(POLYGON_DOMAIN).withReferencePoint(0, 1500);
+        Assertions.assertThatThrownBy(builder::build)
+            .isInstanceOf(DichotomyException.class)
+            .hasMessage("Reference point of the secure domain engine should be strictly inside the searched domain.");
+    }
+}
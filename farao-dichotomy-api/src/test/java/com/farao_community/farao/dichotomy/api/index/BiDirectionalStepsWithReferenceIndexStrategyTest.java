@@ -12,6 +12,8 @@ import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -27,6 +29,18 @@ class BiDirectionalStepsWithReferenceIndexStrategyTest {
     private final DichotomyStepResult<RaoResult> stepResultGlskLim = DichotomyStepResult.fromFailure(ReasonInvalid.GLSK_LIMITATION, "");
     private final DichotomyStepResult<RaoResult> stepResultFailed = DichotomyStepResult.fromFailure(ReasonInvalid.VALIDATION_FAILED, "");
 
+    @Test
+    void testAnticipatedNextValuesDoNotChangeStrategyState() {
+        Index<RaoResult> index = new Index<>(0, 5000, 50);
+        IndexStrategy<RaoResult> indexStrategy = new BiDirectionalStepsWithReferenceIndexStrategy<>(2000, 650, 3000);
+        index.addDichotomyStepResult(2000, stepResultOk);
+        assertEquals(2650, indexStrategy.nextValue(index));
+        assertEquals(2325, indexStrategy.anticipateNextValue(index, 2650, stepResultNOk).getAsDouble());
+        assertEquals(3300, indexStrategy.anticipateNextValue(index, 2650, stepResultOk).getAsDouble());
+        index.addDichotomyStepResult(2650, stepResultOk);
+        assertEquals(3300, indexStrategy.nextValue(index));
+    }
+
     @Test
     void testIndexAfterGlskLimBelowReferenceThenUnsecureBelowReference() {
         double startingIndex = 2000;
@@ -222,4 +236,19 @@ class BiDirectionalStepsWithReferenceIndexStrategyTest {
 
         assertEquals(2500, indexStrategy.nextValue(index));
     }
+
+    @Test
+    void testNextValuesDivideAdmissibleInterval() {
+        double startingIndex = 2000;
+        double stepSize = 650;
+
+        Index<RaoResult> index = new Index<>(0, 5000, 50);
+        IndexStrategy<RaoResult> indexStrategy = new BiDirectionalStepsWithReferenceIndexStrategy<>(startingIndex, stepSize, 2500);
+
+        assertEquals(List.of(2000.), indexStrategy.nextValues(index, 3));
+        index.addDichotomyStepResult(2000, stepResultOk);
+        index.addDichotomyStepResult(3000, stepResultNOk);
+
+        assertEquals(List.of(2250., 2500., 2750.), indexStrategy.nextValues(index, 3));
+    }
 }
@@ -10,10 +10,16 @@ import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.dichotomy.api.results.RaoResultMock;
 import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.farao_community.farao.dichotomy.api.store.StepResultStore;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static com.farao_community.farao.dichotomy.api.index.Index.EPSILON;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
@@ -42,6 +48,36 @@ class IndexTest {
         assertEquals(300, index.precision(), EPSILON);
     }
 
+    @Test
+    void checkCopyIsIndependent() {
+        Index<?> index = new Index<>(0, 1000, 100);
+        index.addDichotomyStepResult(700, DichotomyStepResult.fromFailure(ReasonInvalid.VALIDATION_FAILED, "test"));
+        Index<?> copy = index.copy();
+        copy.addDichotomyStepResult(300, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+
+        assertEquals(1, index.testedSteps().size());
+        assertNull(index.highestValidStep());
+        assertEquals(2, copy.testedSteps().size());
+        assertEquals(700, copy.lowestInvalidStep().getLeft(), EPSILON);
+        assertEquals(300, copy.highestValidStep().getLeft(), EPSILON);
+    }
+
+    @Test
+    void checkCopyNeverWritesToStore() {
+        @SuppressWarnings("unchecked")
+        StepResultStore<Object> store = mock(StepResultStore.class);
+        Index<Object> index = new Index<>(0, 1000, 10, StepResultRetention.keepIntervalAndLastSteps(0), store);
+        index.addDichotomyStepResult(700, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), null));
+        index.addDichotomyStepResult(300, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+        Index<Object> copy = index.copy();
+        copy.addDichotomyStepResult(500, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+        copy.addDichotomyStepResult(600, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), null));
+
+        verifyNoInteractions(store);
+        assertEquals(StepResultRetention.keepAll(), copy.retention());
+        assertTrue(copy.testedSteps().stream().noneMatch(step -> step.getRight().isSummary()));
+    }
+
     @Test
     void checkStepsPresence() {
         Index<?> index = new Index<>(0, 1000, 100);
@@ -90,4 +126,80 @@ class IndexTest {
         index3.addDichotomyStepResult(999, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
         assertFalse(index3.isInBounds());
     }
+
+    @Test
+    void checkIntervalDivision() {
+        Index<?> index = new Index<>(0, 1000, 100);
+        assertEquals(List.of(250., 500., 750.), index.divideInterval(0, 1000, 3));
+        // interval of 300 cannot be divided in more than 3 parts with a precision of 100
+        assertEquals(List.of(400., 500.), index.divideInterval(300, 600, 5));
+        assertEquals(List.of(450.), index.divideInterval(400, 500, 3));
+        assertTrue(index.divideInterval(500, 400, 3).isEmpty());
+    }
+
+    @Test
+    void checkTestedStepsAccess() {
+        Index<Object> index = new Index<>(0, 1000, 1);
+        assertNull(index.lastStepResult());
+        assertEquals(0, index.testedStepsCount());
+        List<Pair<Double, DichotomyStepResult<Object>>> testedSteps = index.testedStepsView();
+        List<Pair<Double, DichotomyStepResult<Object>>> testedStepsSnapshot = index.testedSteps();
+
+        // more steps than the initial capacity of the index
+        for (int i = 0; i < 40; i++) {
+            index.addDichotomyStepResult(i, DichotomyStepResult.fromSummary(ReasonInvalid.NONE, "None"));
+        }
+        DichotomyStepResult<Object> unsecureStep = DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), null);
+        index.addDichotomyStepResult(500, unsecureStep);
+
+        assertEquals(41, index.testedStepsCount());
+        assertEquals(41, testedSteps.size());
+        assertTrue(testedStepsSnapshot.isEmpty());
+        assertEquals(testedSteps, index.testedSteps());
+        assertEquals(39, index.stepValue(39), EPSILON);
+        assertEquals(ReasonInvalid.NONE, index.stepReasonInvalid(39));
+        assertEquals(500, index.stepValue(40), EPSILON);
+        assertEquals(ReasonInvalid.UNSECURE_AFTER_VALIDATION, index.stepReasonInvalid(40));
+        assertSame(unsecureStep, index.stepResult(40));
+        assertSame(unsecureStep, index.lastStepResult());
+        assertEquals(Pair.of(500., unsecureStep), testedSteps.getLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> index.stepValue(41));
+        assertThrows(UnsupportedOperationException.class, () -> testedSteps.add(Pair.of(600., unsecureStep)));
+    }
+
+    @Test
+    void checkStepResultsOutOfIntervalAreDowngraded() {
+        Index<Object> index = new Index<>(0, 1000, 10, StepResultRetention.keepIntervalAndLastSteps(1));
+        index.addDichotomyStepResult(0, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+        index.addDichotomyStepResult(1000, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), null));
+        index.addDichotomyStepResult(500, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+        index.addDichotomyStepResult(750, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), null));
+        index.addDichotomyStepResult(625, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), null));
+
+        // 0 and 1000 left the interval, 750 left the interval and is no longer the last step
+        assertNull(index.stepResult(0).getRaoResult());
+        assertNull(index.stepResult(1).getRaoResult());
+        assertNull(index.stepResult(3).getRaoResult());
+        assertEquals(ReasonInvalid.UNSECURE_AFTER_VALIDATION, index.stepResult(3).getReasonInvalid());
+        assertNotNull(index.stepResult(2).getRaoResult());
+        assertNotNull(index.stepResult(4).getRaoResult());
+        assertNotNull(index.highestValidStep().getRight().getRaoResult());
+        assertNotNull(index.lowestInvalidStep().getRight().getRaoResult());
+    }
+
+    @Test
+    void checkLastStepResultsAreRetained() {
+        Index<Object> index = new Index<>(0, 1000, 10, StepResultRetention.keepIntervalAndLastSteps(2));
+        index.addDichotomyStepResult(0, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+        index.addDichotomyStepResult(100, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+        index.addDichotomyStepResult(200, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+        assertNotNull(index.stepResult(1).getRaoResult());
+        index.addDichotomyStepResult(300, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+
+        assertNull(index.stepResult(0).getRaoResult());
+        assertNull(index.stepResult(1).getRaoResult());
+        assertNotNull(index.stepResult(2).getRaoResult());
+        assertNotNull(index.stepResult(3).getRaoResult());
+        assertThrows(DichotomyException.class, () -> StepResultRetention.keepIntervalAndLastSteps(-1));
+    }
 }
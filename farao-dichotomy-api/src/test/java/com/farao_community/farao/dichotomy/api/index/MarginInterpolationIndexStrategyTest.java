@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.index;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.RaoResultMock;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.powsybl.openrao.data.crac.api.Instant;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.farao_community.farao.dichotomy.api.index.Index.EPSILON;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarginInterpolationIndexStrategyTest {
+
+    private static DichotomyStepResult<Double> stepResult(double margin) {
+        return DichotomyStepResult.fromNetworkValidationResult(null, margin, margin >= 0);
+    }
+
+    private static Index<Double> runDichotomy(IndexStrategy<Double> indexStrategy, DoubleUnaryOperator margin) {
+        Index<Double> index = new Index<>(-1000, 1000, 10);
+        while (!indexStrategy.precisionReached(index)) {
+            double nextValue = indexStrategy.nextValue(index);
+            index.addDichotomyStepResult(nextValue, stepResult(margin.applyAsDouble(nextValue)));
+        }
+        return index;
+    }
+
+    @Test
+    void checkLinearMarginIsFoundInOneInterpolation() {
+        Index<Double> index = runDichotomy(new MarginInterpolationIndexStrategy<>(true, DichotomyStepResult::getValidationData), value -> 237 - value);
+
+        assertEquals(4, index.testedSteps().size());
+        assertEquals(237, index.highestValidStep().getLeft(), EPSILON);
+        assertEquals(242, index.lowestInvalidStep().getLeft(), EPSILON);
+    }
+
+    @Test
+    void checkInterpolationNeedsFewerStepsThanRangeDivision() {
+        DoubleUnaryOperator margin = value -> 237 - value - 0.001 * value * value;
+        Index<Double> interpolationIndex = runDichotomy(new MarginInterpolationIndexStrategy<>(true, DichotomyStepResult::getValidationData), margin);
+        Index<Double> rangeDivisionIndex = runDichotomy(new RangeDivisionIndexStrategy<>(true), margin);
+
+        assertTrue(interpolationIndex.testedSteps().size() < rangeDivisionIndex.testedSteps().size());
+        assertTrue(interpolationIndex.highestValidStep().getLeft() <= 197.85);
+        assertTrue(interpolationIndex.lowestInvalidStep().getLeft() >= 197.85);
+        assertTrue(interpolationIndex.isWithinPrecision());
+    }
+
+    @Test
+    void checkIllinoisVariantHalvesMarginOfRetainedBound() {
+        Index<Double> index = new Index<>(0, 1000, 10);
+        IndexStrategy<Double> indexStrategy = new MarginInterpolationIndexStrategy<>(true, DichotomyStepResult::getValidationData);
+        index.addDichotomyStepResult(0, stepResult(300));
+        index.addDichotomyStepResult(1000, stepResult(-100));
+        assertEquals(750, indexStrategy.nextValue(index), EPSILON);
+        index.addDichotomyStepResult(750, stepResult(50));
+        double secondInterpolatedValue = 750 + 250 * 50. / 150;
+        assertEquals(secondInterpolatedValue, indexStrategy.nextValue(index), EPSILON);
+        index.addDichotomyStepResult(secondInterpolatedValue, stepResult(20));
+        // Upper bound retained twice in a row: its margin is halved
+        assertEquals(secondInterpolatedValue + (1000 - secondInterpolatedValue) * 20 / (20 + 50.), indexStrategy.nextValue(index), EPSILON);
+    }
+
+    @Test
+    void checkMiddleIsUsedWhenMarginIsNotAvailable() {
+        Index<Double> index = new Index<>(0, 1000, 10);
+        IndexStrategy<Double> indexStrategy = new MarginInterpolationIndexStrategy<>(true, DichotomyStepResult::getValidationData);
+        index.addDichotomyStepResult(0, stepResult(300));
+        index.addDichotomyStepResult(1000, DichotomyStepResult.fromFailure(ReasonInvalid.GLSK_LIMITATION, "GLSK limits reached"));
+        assertEquals(500, indexStrategy.nextValue(index), EPSILON);
+    }
+
+    @Test
+    void checkNextValueIsNotAnticipatedFromSummaryOnceBothBoundsAreKnown() {
+        Index<Double> index = new Index<>(0, 1000, 10);
+        IndexStrategy<Double> indexStrategy = new MarginInterpolationIndexStrategy<>(true, DichotomyStepResult::getValidationData);
+        assertEquals(OptionalDouble.of(1000), indexStrategy.anticipateNextValue(index, 0, DichotomyStepResult.fromSummary(ReasonInvalid.NONE, "Anticipated")));
+        index.addDichotomyStepResult(0, stepResult(300));
+        assertTrue(indexStrategy.anticipateNextValue(index, 1000, DichotomyStepResult.fromSummary(ReasonInvalid.UNSECURE_AFTER_VALIDATION, "Anticipated")).isEmpty());
+        assertEquals(OptionalDouble.of(750), indexStrategy.anticipateNextValue(index, 1000, stepResult(-100)));
+    }
+
+    @Test
+    void checkNextValueStaysAwayFromBounds() {
+        Index<Double> index = new Index<>(0, 1000, 10);
+        IndexStrategy<Double> indexStrategy = new MarginInterpolationIndexStrategy<>(true, DichotomyStepResult::getValidationData);
+        index.addDichotomyStepResult(0, stepResult(0.001));
+        index.addDichotomyStepResult(1000, stepResult(-1000));
+        assertEquals(5, indexStrategy.nextValue(index), EPSILON);
+    }
+
+    @Test
+    void checkMarginFromFunctionalCost() {
+        Instant curativeInstant = Mockito.mock(Instant.class);
+        Mockito.when(curativeInstant.isCurative()).thenReturn(true);
+        Index<Object> index = new Index<>(0, 1000, 10);
+        IndexStrategy<Object> indexStrategy = MarginInterpolationIndexStrategy.fromFunctionalCost(false, curativeInstant);
+        assertEquals(1000, indexStrategy.nextValue(index), EPSILON);
+        index.addDichotomyStepResult(1000, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), null));
+        assertEquals(0, indexStrategy.nextValue(index), EPSILON);
+        index.addDichotomyStepResult(0, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null));
+        assertEquals(500, indexStrategy.nextValue(index), EPSILON);
+    }
+}
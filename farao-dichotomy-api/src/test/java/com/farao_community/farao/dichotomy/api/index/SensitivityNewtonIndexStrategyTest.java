@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.index;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.MarginSensitivityData;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static com.farao_community.farao.dichotomy.api.index.Index.EPSILON;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SensitivityNewtonIndexStrategyTest {
+
+    private record MarginSensitivity(double getMargin, double getMarginSensitivity) implements MarginSensitivityData {
+    }
+
+    private static DichotomyStepResult<MarginSensitivityData> stepResult(double margin, double sensitivity) {
+        return DichotomyStepResult.fromNetworkValidationResult(null, new MarginSensitivity(margin, sensitivity), margin >= 0);
+    }
+
+    private static Index<MarginSensitivityData> runDichotomy(IndexStrategy<MarginSensitivityData> indexStrategy,
+                                                            DoubleUnaryOperator margin, DoubleUnaryOperator sensitivity) {
+        Index<MarginSensitivityData> index = new Index<>(-1000, 1000, 10);
+        while (!indexStrategy.precisionReached(index)) {
+            double nextValue = indexStrategy.nextValue(index);
+            index.addDichotomyStepResult(nextValue, stepResult(margin.applyAsDouble(nextValue), sensitivity.applyAsDouble(nextValue)));
+        }
+        return index;
+    }
+
+    @Test
+    void checkLinearMarginIsFoundInOneNewtonStep() {
+        Index<MarginSensitivityData> index = runDichotomy(new SensitivityNewtonIndexStrategy<>(0), value -> 237 - value, value -> -1);
+
+        assertEquals(3, index.testedSteps().size());
+        assertEquals(237, index.highestValidStep().getLeft(), EPSILON);
+        assertEquals(247, index.lowestInvalidStep().getLeft(), EPSILON);
+    }
+
+    @Test
+    void checkNonLinearMarginIsBracketedWithinPrecision() {
+        DoubleUnaryOperator margin = value -> 237 - value - 0.001 * value * value;
+        DoubleUnaryOperator sensitivity = value -> -1 - 0.002 * value;
+        Index<MarginSensitivityData> newtonIndex = runDichotomy(new SensitivityNewtonIndexStrategy<>(800), margin, sensitivity);
+        Index<MarginSensitivityData> rangeDivisionIndex = runDichotomy(new RangeDivisionIndexStrategy<>(true), margin, sensitivity);
+
+        assertTrue(newtonIndex.testedSteps().size() < rangeDivisionIndex.testedSteps().size());
+        assertTrue(newtonIndex.highestValidStep().getLeft() <= 197.85);
+        assertTrue(newtonIndex.lowestInvalidStep().getLeft() >= 197.85);
+        assertTrue(newtonIndex.isWithinPrecision());
+    }
+
+    @Test
+    void checkBisectionBoundsStepsOfBiasedSensitivity() {
+        // Sensitivity ten times too low: each prediction overshoots and only moves a bound by half the precision
+        Index<MarginSensitivityData> index = runDichotomy(new SensitivityNewtonIndexStrategy<>(-1000), value -> 237 - value, value -> -0.1);
+
+        assertTrue(index.testedSteps().size() <= 20);
+        assertTrue(index.highestValidStep().getLeft() <= 237);
+        assertTrue(index.lowestInvalidStep().getLeft() >= 237);
+        assertTrue(index.isWithinPrecision());
+    }
+
+    @Test
+    void checkMiddleIsUsedWhenIntervalShrankByLessThanHalf() {
+        Index<MarginSensitivityData> index = new Index<>(0, 1000, 10);
+        IndexStrategy<MarginSensitivityData> indexStrategy = new SensitivityNewtonIndexStrategy<>(0);
+        index.addDichotomyStepResult(0, stepResult(300, -0.1));
+        index.addDichotomyStepResult(1000, stepResult(-700, -0.1));
+        index.addDichotomyStepResult(995, stepResult(-695, -0.1));
+        assertEquals(497.5, indexStrategy.nextValue(index), EPSILON);
+    }
+
+    @Test
+    void checkPredictionIsKeptWithinInterval() {
+        Index<MarginSensitivityData> index = new Index<>(0, 1000, 10);
+        IndexStrategy<MarginSensitivityData> indexStrategy = new SensitivityNewtonIndexStrategy<>(500);
+        index.addDichotomyStepResult(100, stepResult(100, -1));
+        index.addDichotomyStepResult(500, stepResult(-10, -0.01));
+        assertEquals(105, indexStrategy.nextValue(index), EPSILON);
+    }
+
+    @Test
+    void checkRangeDivisionIsUsedWithoutSensitivity() {
+        Index<Object> index = new Index<>(0, 1000, 10);
+        IndexStrategy<Object> indexStrategy = new SensitivityNewtonIndexStrategy<>(2000);
+        assertEquals(1000, indexStrategy.nextValue(index), EPSILON);
+        index.addDichotomyStepResult(1000, DichotomyStepResult.fromFailure(ReasonInvalid.GLSK_LIMITATION, "GLSK limits reached"));
+        assertEquals(0, indexStrategy.nextValue(index), EPSILON);
+        index.addDichotomyStepResult(0, DichotomyStepResult.fromNetworkValidationResult(null, null, true));
+        assertEquals(500, indexStrategy.nextValue(index), EPSILON);
+    }
+}
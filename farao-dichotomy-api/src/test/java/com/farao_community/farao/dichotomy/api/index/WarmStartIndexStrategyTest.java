@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.index;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.RaoResultMock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WarmStartIndexStrategyTest {
+    private static final DichotomyStepResult<Boolean> STEP_RESULT_SECURE = DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), null);
+    private static final DichotomyStepResult<Boolean> STEP_RESULT_UNSECURE = DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), null);
+
+    @Test
+    void checkExpectedIntervalIsTestedFirst() {
+        final Index<Boolean> index = new Index<>(0, 5000, 50);
+        final WarmStartIndexStrategy<Boolean> strategy = new WarmStartIndexStrategy<>(2000, 2200);
+
+        assertEquals(2000, strategy.nextValue(index));
+        index.addDichotomyStepResult(2000, STEP_RESULT_SECURE);
+        assertEquals(2200, strategy.nextValue(index));
+        index.addDichotomyStepResult(2200, STEP_RESULT_UNSECURE);
+        assertEquals(2100, strategy.nextValue(index));
+        index.addDichotomyStepResult(2100, STEP_RESULT_SECURE);
+        assertEquals(2150, strategy.nextValue(index));
+        index.addDichotomyStepResult(2150, STEP_RESULT_UNSECURE);
+        assertTrue(strategy.precisionReached(index));
+    }
+
+    @Test
+    void checkSearchGoesUpWithIncreasingStepsWhenExpectedInvalidValueIsSecure() {
+        final Index<Boolean> index = new Index<>(0, 5000, 50);
+        final WarmStartIndexStrategy<Boolean> strategy = new WarmStartIndexStrategy<>(2000, 2200);
+
+        index.addDichotomyStepResult(2000, STEP_RESULT_SECURE);
+        index.addDichotomyStepResult(2200, STEP_RESULT_SECURE);
+        assertEquals(2400, strategy.nextValue(index));
+        index.addDichotomyStepResult(2400, STEP_RESULT_SECURE);
+        assertEquals(2800, strategy.nextValue(index));
+        index.addDichotomyStepResult(2800, STEP_RESULT_SECURE);
+        assertEquals(3600, strategy.nextValue(index));
+        index.addDichotomyStepResult(3600, STEP_RESULT_SECURE);
+        assertEquals(5000, strategy.nextValue(index));
+    }
+
+    @Test
+    void checkSearchGoesDownWhenExpectedValidValueIsUnsecure() {
+        final Index<Boolean> index = new Index<>(0, 5000, 50);
+        final WarmStartIndexStrategy<Boolean> strategy = new WarmStartIndexStrategy<>(2000, 2200);
+
+        index.addDichotomyStepResult(2000, STEP_RESULT_UNSECURE);
+        assertEquals(1800, strategy.nextValue(index));
+        index.addDichotomyStepResult(1800, STEP_RESULT_UNSECURE);
+        assertEquals(1600, strategy.nextValue(index));
+        index.addDichotomyStepResult(1600, STEP_RESULT_SECURE);
+        assertEquals(1700, strategy.nextValue(index));
+    }
+
+    @Test
+    void checkExpectedValuesAreKeptWithinIndexBounds() {
+        final Index<Boolean> index = new Index<>(0, 5000, 50);
+        final WarmStartIndexStrategy<Boolean> strategy = new WarmStartIndexStrategy<>(-200, 100);
+
+        assertEquals(0, strategy.nextValue(index));
+        assertEquals(List.of(0., 100.), strategy.nextValues(index, 4));
+    }
+
+    @Test
+    void checkCreationFromPreviousResult() {
+        final Index<Boolean> previousIndex = new Index<>(0, 5000, 50);
+        previousIndex.addDichotomyStepResult(2000, STEP_RESULT_SECURE);
+        previousIndex.addDichotomyStepResult(2040, STEP_RESULT_UNSECURE);
+        final DichotomyResult<Boolean> previousResult = DichotomyResult.buildFromIndex(previousIndex);
+
+        final Index<Boolean> index = new Index<>(0, 5000, 50);
+        final WarmStartIndexStrategy<Boolean> strategy = WarmStartIndexStrategy.fromPreviousResult(previousResult, 100);
+
+        assertEquals(1900, strategy.nextValue(index));
+        index.addDichotomyStepResult(1900, STEP_RESULT_SECURE);
+        assertEquals(2140, strategy.nextValue(index));
+    }
+
+    @Test
+    void checkCreationFailures() {
+        final DichotomyResult<Boolean> emptyResult = DichotomyResult.buildFromIndex(new Index<>(0, 5000, 50));
+        assertThrows(DichotomyException.class, () -> new WarmStartIndexStrategy<>(2200, 2000));
+        assertThrows(DichotomyException.class, () -> WarmStartIndexStrategy.fromPreviousResult(emptyResult, 100));
+    }
+}
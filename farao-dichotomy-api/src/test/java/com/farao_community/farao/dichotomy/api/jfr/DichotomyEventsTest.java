@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.jfr;
+
+import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidatorMock;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.powsybl.iidm.network.Network;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+class DichotomyEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void checkEventsRecordedDuringRun() throws IOException {
+        final Network network = Network.read("20210901_2230_test_network.uct",
+            getClass().getResourceAsStream("/com/farao_community/farao/dichotomy/api/20210901_2230_test_network.uct"));
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+            .withIndex(new Index<>(-1000, 1000, 200))
+            .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+            .withNetworkShifter(mock(NetworkShifter.class))
+            .withNetworkValidator(new NetworkValidatorMock(-340))
+            .withRunId("run")
+            .build();
+        final Path recordingFile = directory.resolve("dichotomy.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(DichotomyRunEvent.class);
+            recording.enable(DichotomyStepEvent.class);
+            recording.enable(NetworkValidationEvent.class);
+            recording.start();
+            engine.run(network);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        final List<RecordedEvent> runEvents = eventsOfType(events, "com.farao_community.farao.dichotomy.DichotomyRun");
+        final List<RecordedEvent> stepEvents = eventsOfType(events, "com.farao_community.farao.dichotomy.DichotomyStep");
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(runEvents).hasSize(1);
+        assertions.assertThat(runEvents.getFirst().getString("runId")).isEqualTo("run");
+        assertions.assertThat(runEvents.getFirst().getInt("testedSteps")).isEqualTo(6);
+        assertions.assertThat(runEvents.getFirst().getDouble("highestValidStepValue")).isEqualTo(-375);
+        assertions.assertThat(runEvents.getFirst().getString("limitingCause")).isEqualTo("CRITICAL_BRANCH");
+        assertions.assertThat(stepEvents).extracting(event -> event.getDouble("stepValue"))
+            .containsExactly(-1000., 1000., 0., -500., -250., -375.);
+        assertions.assertThat(stepEvents).extracting(event -> event.getString("reasonInvalid"))
+            .containsExactly("NONE", "UNSECURE_AFTER_VALIDATION", "UNSECURE_AFTER_VALIDATION", "NONE", "UNSECURE_AFTER_VALIDATION", "NONE");
+        assertions.assertThat(eventsOfType(events, "com.farao_community.farao.dichotomy.NetworkValidation")).hasSize(6);
+        assertions.assertAll();
+    }
+
+    private static List<RecordedEvent> eventsOfType(final List<RecordedEvent> events, final String eventName) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(eventName))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .toList();
+    }
+}
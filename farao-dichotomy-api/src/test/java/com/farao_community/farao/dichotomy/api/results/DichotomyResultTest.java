@@ -35,6 +35,26 @@ class DichotomyResultTest {
         assertions.assertAll();
     }
 
+    @Test
+    void timeBudgetReached() {
+        final Index<Object> index = Mockito.mock(Index.class);
+        final DichotomyStepResult<Object> highestValidStepResult = Mockito.mock(DichotomyStepResult.class);
+        final DichotomyStepResult<Object> lowestInvalidStepResult = Mockito.mock(DichotomyStepResult.class);
+        Mockito.when(index.highestValidStep()).thenReturn(Pair.of(10d, highestValidStepResult));
+        Mockito.when(index.lowestInvalidStep()).thenReturn(Pair.of(500d, lowestInvalidStepResult));
+
+        final DichotomyResult<Object> result = DichotomyResult.buildFromTimeBudget(index);
+
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(result.getHighestValidStepValue()).isEqualTo(10d);
+        assertions.assertThat(result.getLowestInvalidStepValue()).isEqualTo(500d);
+        assertions.assertThat(result.isInterrupted()).isFalse();
+        assertions.assertThat(result.isRaoFailed()).isFalse();
+        assertions.assertThat(result.getLimitingCause()).isEqualTo(LimitingCause.TIME_BUDGET_REACHED);
+        assertions.assertThat(result.getLimitingFailureMessage()).isEqualTo("Time budget reached");
+        assertions.assertAll();
+    }
+
     @Test
     void noValidStep() {
         final Index<Object> index = Mockito.mock(Index.class);
@@ -36,4 +36,42 @@ class DichotomyStepResultTest {
         assertEquals(ReasonInvalid.UNSECURE_AFTER_VALIDATION, result.getReasonInvalid());
         assertFalse(result.isValid());
     }
+
+    @Test
+    void testSummary() {
+        DichotomyStepResult<String> result = DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), "data");
+        DichotomyStepResult<String> summary = result.toSummary();
+        assertNull(summary.getRaoResult());
+        assertNull(summary.getValidationData());
+        assertEquals(ReasonInvalid.UNSECURE_AFTER_VALIDATION, summary.getReasonInvalid());
+        assertFalse(summary.isValid());
+        assertSame(summary, summary.toSummary());
+        assertFalse(result.isSummary());
+        assertTrue(summary.isSummary());
+    }
+
+    @Test
+    void testRestoredSummary() {
+        assertTrue(DichotomyStepResult.fromSummary(ReasonInvalid.NONE, "None").isSummary());
+        assertTrue(DichotomyStepResult.fromSummary(ReasonInvalid.NONE, "None").isValid());
+        assertFalse(DichotomyStepResult.fromFailure(ReasonInvalid.GLSK_LIMITATION, "GLSK limits").isSummary());
+    }
+
+    @Test
+    void testFailureIsNeverValid() {
+        DichotomyStepResult<?> result = DichotomyStepResult.fromFailure(ReasonInvalid.NONE, "Unknown failure");
+        assertFalse(result.isValid());
+        assertEquals(ReasonInvalid.NONE, result.getReasonInvalid());
+    }
+
+    @Test
+    void testDecidingStage() {
+        DichotomyStepResult<String> result = DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), "data");
+        assertNull(result.getDecidingStage());
+        DichotomyStepResult<String> decidedResult = result.withDecidingStage("full-rao");
+        assertEquals("full-rao", decidedResult.getDecidingStage());
+        assertEquals("data", decidedResult.getValidationData());
+        assertTrue(decidedResult.isValid());
+        assertEquals("full-rao", decidedResult.toSummary().getDecidingStage());
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class FileStepResultCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private static StepCacheKey key(double stepValue) {
+        return StepCacheKey.of("network-fingerprint", "shift-configuration", stepValue);
+    }
+
+    private static DichotomyStepResult<String> stepResult(String data, boolean secure) {
+        return DichotomyStepResult.fromNetworkValidationResult(null, data, secure);
+    }
+
+    private long cachedFilesCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void checkPutAndGet() {
+        final FileStepResultCache<String> cache = new FileStepResultCache<>(directory, new JavaSerializationStepResultCodec<>(), 10);
+        cache.put(key(100), stepResult("step 100", true));
+
+        assertThat(cache.contains(key(100))).isTrue();
+        assertThat(cache.contains(key(100.0001))).isTrue();
+        assertThat(cache.contains(key(200))).isFalse();
+        assertThat(cache.contains(StepCacheKey.of("other-fingerprint", "shift-configuration", 100))).isFalse();
+        assertThat(cache.get(key(100)).getValidationData()).isEqualTo("step 100");
+        assertThat(cache.get(key(100)).isValid()).isTrue();
+        assertThat(cache.get(key(200))).isNull();
+    }
+
+    @Test
+    void checkLeastRecentlyUsedStepIsEvicted() throws IOException {
+        final FileStepResultCache<String> cache = new FileStepResultCache<>(directory, new JavaSerializationStepResultCodec<>(), 2);
+        cache.put(key(100), stepResult("step 100", true));
+        cache.put(key(200), stepResult("step 200", false));
+        cache.get(key(100));
+        cache.put(key(300), stepResult("step 300", false));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cachedFilesCount()).isEqualTo(2);
+        assertThat(cache.contains(key(100))).isTrue();
+        assertThat(cache.contains(key(200))).isFalse();
+        assertThat(cache.contains(key(300))).isTrue();
+    }
+
+    @Test
+    void checkCacheIsRestoredFromDirectory() {
+        new FileStepResultCache<String>(directory, new JavaSerializationStepResultCodec<>(), 10).put(key(100), stepResult("step 100", true));
+
+        final FileStepResultCache<String> reopenedCache = new FileStepResultCache<>(directory, new JavaSerializationStepResultCodec<>(), 10);
+
+        assertThat(reopenedCache.size()).isEqualTo(1);
+        assertThat(reopenedCache.get(key(100)).getValidationData()).isEqualTo("step 100");
+    }
+
+    @Test
+    void checkCorruptedStepIsDiscarded() throws IOException {
+        final FileStepResultCache<String> cache = new FileStepResultCache<>(directory, new JavaSerializationStepResultCodec<>(), 10);
+        cache.put(key(100), stepResult("step 100", true));
+        try (Stream<Path> files = Files.list(directory)) {
+            Files.write(files.findFirst().orElseThrow(), new byte[] {1, 2, 3});
+        }
+
+        assertThat(cache.get(key(100))).isNull();
+        assertThat(cache.contains(key(100))).isFalse();
+        assertThat(cachedFilesCount()).isZero();
+    }
+
+    @Test
+    void checkThatCacheFailsWithoutEntries() {
+        final JavaSerializationStepResultCodec<String> codec = new JavaSerializationStepResultCodec<>();
+        assertThatExceptionOfType(DichotomyException.class).isThrownBy(() -> new FileStepResultCache<>(directory, codec, 0));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.store;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.StepResultRetention;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.RaoResultMock;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class FileStepResultStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void checkStoreAndLoad() {
+        try (FileStepResultStore<String> store = new FileStepResultStore<>(directory.resolve("steps.bin"), new JavaSerializationStepResultCodec<>())) {
+            final long secureHandle = store.store(DichotomyStepResult.fromNetworkValidationResult(null, "secure data", true));
+            final long unsecureHandle = store.store(DichotomyStepResult.fromNetworkValidationResult(null, "unsecure data", false).withDecidingStage("dc-loadflow"));
+
+            final DichotomyStepResult<String> unsecureResult = store.load(unsecureHandle);
+            final DichotomyStepResult<String> secureResult = store.load(secureHandle);
+
+            assertThat(secureResult.getValidationData()).isEqualTo("secure data");
+            assertThat(secureResult.isValid()).isTrue();
+            assertThat(unsecureResult.getValidationData()).isEqualTo("unsecure data");
+            assertThat(unsecureResult.getReasonInvalid()).isEqualTo(ReasonInvalid.UNSECURE_AFTER_VALIDATION);
+            assertThat(unsecureResult.getDecidingStage()).isEqualTo("dc-loadflow");
+            assertThat(secureResult.getDecidingStage()).isNull();
+        }
+    }
+
+    @Test
+    void checkTemporaryStoreIsDeletedOnClose() {
+        final FileStepResultStore<String> store = FileStepResultStore.createTemporary(new JavaSerializationStepResultCodec<>());
+        store.store(DichotomyStepResult.fromNetworkValidationResult(null, "data", true));
+        assertThat(store.file()).exists();
+
+        store.close();
+
+        assertThat(store.file()).doesNotExist();
+    }
+
+    @Test
+    void checkNotSerializableResultCannotBeStored() {
+        try (FileStepResultStore<Object> store = new FileStepResultStore<>(directory.resolve("steps.bin"), new JavaSerializationStepResultCodec<>())) {
+            final DichotomyStepResult<Object> stepResult = DichotomyStepResult.fromNetworkValidationResult(null, new Object(), true);
+            assertThatExceptionOfType(DichotomyException.class).isThrownBy(() -> store.store(stepResult));
+        }
+    }
+
+    @Test
+    void checkStepResultWithNotSerializableRaoResultIsStoredWithoutIt() {
+        try (FileStepResultStore<String> store = new FileStepResultStore<>(directory.resolve("steps.bin"), new ValidationDataStepResultCodec<>())) {
+            final long handle = store.store(DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), "unsecure data", false).withDecidingStage("ac-rao"));
+
+            final DichotomyStepResult<String> stepResult = store.load(handle);
+
+            assertThat(stepResult.getRaoResult()).isNull();
+            assertThat(stepResult.getValidationData()).isEqualTo("unsecure data");
+            assertThat(stepResult.getReasonInvalid()).isEqualTo(ReasonInvalid.UNSECURE_AFTER_VALIDATION);
+            assertThat(stepResult.getDecidingStage()).isEqualTo("ac-rao");
+        }
+    }
+
+    @Test
+    void checkRaoResultIsWrittenAsJson() throws Exception {
+        final Crac crac = mock(Crac.class);
+        final RaoResult raoResult = mock(RaoResult.class);
+        final JsonRaoResultStepResultCodec<String> codec = new JsonRaoResultStepResultCodec<>(crac);
+
+        codec.encode(DichotomyStepResult.fromNetworkValidationResult(raoResult, "secure data", true));
+
+        verify(raoResult).write(eq("JSON"), eq(crac), any(Properties.class), any(OutputStream.class));
+        assertThat(codec.keepsRaoResult()).isTrue();
+    }
+
+    @Test
+    void checkStepResultWithoutRaoResultIsDecodedByJsonCodec() throws Exception {
+        final JsonRaoResultStepResultCodec<String> codec = new JsonRaoResultStepResultCodec<>(mock(Crac.class));
+
+        final DichotomyStepResult<String> stepResult = codec.decode(codec.encode(DichotomyStepResult.fromNetworkValidationResult(null, "unsecure data", false)));
+
+        assertThat(stepResult.getRaoResult()).isNull();
+        assertThat(stepResult.getValidationData()).isEqualTo("unsecure data");
+        assertThat(stepResult.getReasonInvalid()).isEqualTo(ReasonInvalid.UNSECURE_AFTER_VALIDATION);
+    }
+
+    @Test
+    void checkIndexKeepsSummaryWhenStepResultCannotBeStored() throws Exception {
+        final Path file = directory.resolve("steps.bin");
+        try (FileStepResultStore<String> store = new FileStepResultStore<>(file, new JavaSerializationStepResultCodec<>())) {
+            final Index<String> index = new Index<>(0, 1000, 10, StepResultRetention.keepIntervalAndLastSteps(0), store);
+            index.addDichotomyStepResult(0, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), "step 0", true));
+            index.addDichotomyStepResult(1000, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(false), "step 1000", false));
+            index.addDichotomyStepResult(500, DichotomyStepResult.fromNetworkValidationResult(new RaoResultMock(true), "step 500", true));
+
+            assertThat(Files.size(file)).isZero();
+            assertThat(index.stepResult(0).isSummary()).isTrue();
+            assertThat(index.stepResult(0).isValid()).isTrue();
+            assertThat(index.stepResult(2).getValidationData()).isEqualTo("step 500");
+        }
+    }
+
+    @Test
+    void checkIndexReloadsStepResultsFromStore() throws Exception {
+        final Path file = directory.resolve("steps.bin");
+        try (FileStepResultStore<String> store = new FileStepResultStore<>(file, new JavaSerializationStepResultCodec<>())) {
+            final Index<String> index = new Index<>(0, 1000, 10, StepResultRetention.keepIntervalAndLastSteps(0), store);
+            index.addDichotomyStepResult(0, DichotomyStepResult.fromNetworkValidationResult(null, "step 0", true));
+            index.addDichotomyStepResult(1000, DichotomyStepResult.fromNetworkValidationResult(null, "step 1000", false));
+            assertThat(Files.size(file)).isZero();
+            index.addDichotomyStepResult(500, DichotomyStepResult.fromNetworkValidationResult(null, "step 500", true));
+            index.addDichotomyStepResult(750, DichotomyStepResult.fromNetworkValidationResult(null, "step 750", false));
+
+            assertThat(Files.size(file)).isPositive();
+            assertThat(index.stepSummary(0).getValidationData()).isNull();
+            assertThat(index.stepSummary(1).getValidationData()).isNull();
+            assertThat(index.stepResult(0).getValidationData()).isEqualTo("step 0");
+            assertThat(index.stepResult(1).getValidationData()).isEqualTo("step 1000");
+            assertThat(index.testedSteps().get(1).getRight().getReasonInvalid()).isEqualTo(ReasonInvalid.UNSECURE_AFTER_VALIDATION);
+            assertThat(index.stepResult(2).getValidationData()).isEqualTo("step 500");
+            assertThat(index.stepSummary(2).getValidationData()).isEqualTo("step 500");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.utils;
+
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NetworkFingerprintTest {
+    private static final String NETWORK_FILE = "/com/farao_community/farao/dichotomy/api/20210901_2230_test_network.uct";
+
+    private Network network;
+
+    @BeforeEach
+    void setUp() {
+        network = readNetwork();
+    }
+
+    private Network readNetwork() {
+        return Network.read("20210901_2230_test_network.uct", getClass().getResourceAsStream(NETWORK_FILE));
+    }
+
+    @Test
+    void checkSameNetworkStateGivesSameFingerprint() {
+        String fingerprint = NetworkFingerprint.of(network);
+
+        assertEquals(64, fingerprint.length());
+        assertEquals(fingerprint, NetworkFingerprint.of(network));
+        assertEquals(fingerprint, NetworkFingerprint.of(readNetwork()));
+
+        String initialVariant = network.getVariantManager().getWorkingVariantId();
+        network.getVariantManager().cloneVariant(initialVariant, "clone");
+        network.getVariantManager().setWorkingVariant("clone");
+        assertEquals(fingerprint, NetworkFingerprint.of(network));
+    }
+
+    @Test
+    void checkGeneratorSetPointChangesFingerprint() {
+        String initialFingerprint = NetworkFingerprint.of(network);
+        Generator generator = network.getGenerators().iterator().next();
+        double initialTargetP = generator.getTargetP();
+
+        generator.setTargetP(initialTargetP + 1);
+        assertNotEquals(initialFingerprint, NetworkFingerprint.of(network));
+
+        generator.setTargetP(initialTargetP);
+        assertEquals(initialFingerprint, NetworkFingerprint.of(network));
+    }
+
+    @Test
+    void checkGeneratorActivePowerBoundChangesFingerprint() {
+        String initialFingerprint = NetworkFingerprint.of(network);
+        Generator generator = network.getGenerators().iterator().next();
+
+        generator.setMaxP(generator.getMaxP() + 1);
+        assertNotEquals(initialFingerprint, NetworkFingerprint.of(network));
+    }
+
+    @Test
+    void checkLineCurrentLimitChangesFingerprint() {
+        String initialFingerprint = NetworkFingerprint.of(network);
+        Line line = network.getLines().iterator().next();
+
+        line.newCurrentLimits1().setPermanentLimit(1234.).add();
+        String limitedFingerprint = NetworkFingerprint.of(network);
+        assertNotEquals(initialFingerprint, limitedFingerprint);
+
+        line.newCurrentLimits1().setPermanentLimit(1235.).add();
+        assertNotEquals(limitedFingerprint, NetworkFingerprint.of(network));
+    }
+
+    @Test
+    void checkLineDisconnectionChangesFingerprint() {
+        String initialFingerprint = NetworkFingerprint.of(network);
+        Line line = network.getLines().iterator().next();
+
+        line.getTerminal1().disconnect();
+        assertNotEquals(initialFingerprint, NetworkFingerprint.of(network));
+    }
+
+    @Test
+    void checkFingerprintDependsOnWorkingVariant() {
+        String initialVariant = network.getVariantManager().getWorkingVariantId();
+        String initialFingerprint = NetworkFingerprint.of(network);
+        network.getVariantManager().cloneVariant(initialVariant, "shifted");
+        network.getVariantManager().setWorkingVariant("shifted");
+        Generator generator = network.getGenerators().iterator().next();
+        generator.setTargetP(generator.getTargetP() + 100);
+        String shiftedFingerprint = NetworkFingerprint.of(network);
+
+        network.getVariantManager().setWorkingVariant(initialVariant);
+        assertEquals(initialFingerprint, NetworkFingerprint.of(network));
+        assertNotEquals(initialFingerprint, shiftedFingerprint);
+    }
+}
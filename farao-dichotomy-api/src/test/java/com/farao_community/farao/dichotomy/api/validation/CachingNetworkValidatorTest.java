@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.validation;
+
+import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.NetworkValidatorMock;
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.store.FileStepResultCache;
+import com.farao_community.farao.dichotomy.api.store.JavaSerializationStepResultCodec;
+import com.farao_community.farao.dichotomy.api.store.StepCacheKey;
+import com.farao_community.farao.dichotomy.api.store.StepResultCache;
+import com.farao_community.farao.dichotomy.api.store.ValidationDataStepResultCodec;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class CachingNetworkValidatorTest {
+    private static final String NETWORK_FILE = "/com/farao_community/farao/dichotomy/api/20210901_2230_test_network.uct";
+
+    @TempDir
+    Path directory;
+
+    private DichotomyResult<Object> runDichotomy(StepResultCache<Object> cache, NetworkShifter networkShifter, AtomicInteger validationsCount) {
+        final Network network = Network.read("20210901_2230_test_network.uct", getClass().getResourceAsStream(NETWORK_FILE));
+        final NetworkValidator<Object> networkValidator = new NetworkValidatorMock(-340);
+        final CachingNetworkValidator<Object> cachingValidator = new CachingNetworkValidator<>((stepNetwork, lastDichotomyStepResult) -> {
+            validationsCount.incrementAndGet();
+            return networkValidator.validateNetwork(stepNetwork, lastDichotomyStepResult);
+        }, cache, "network-fingerprint", "shift-configuration");
+        return DichotomyEngine.builder()
+            .withIndex(new Index<>(-1000, 1000, 200))
+            .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+            .withNetworkShifter(cachingValidator.cachingShifter(networkShifter))
+            .withNetworkValidator(cachingValidator)
+            .build()
+            .run(network);
+    }
+
+    @Test
+    void checkRerunReusesCachedSteps() throws GlskLimitationException, ShiftingException {
+        final NetworkShifter networkShifter = Mockito.mock(NetworkShifter.class);
+        final AtomicInteger firstRunValidations = new AtomicInteger();
+        final AtomicInteger secondRunValidations = new AtomicInteger();
+
+        // RAO results of the mock are not serializable, the cache keeps the step results in memory
+        final StepResultCache<Object> cache = new InMemoryStepResultCache();
+
+        final DichotomyResult<Object> firstResult = runDichotomy(cache, networkShifter, firstRunValidations);
+        final DichotomyResult<Object> secondResult = runDichotomy(cache, networkShifter, secondRunValidations);
+
+        assertThat(firstRunValidations.get()).isEqualTo(6);
+        assertThat(secondRunValidations.get()).isZero();
+        assertThat(secondResult.getHighestValidStepValue()).isEqualTo(firstResult.getHighestValidStepValue());
+        assertThat(secondResult.getLowestInvalidStepValue()).isEqualTo(firstResult.getLowestInvalidStepValue());
+        // Cached steps are still shifted, so that their networks could be exported
+        Mockito.verify(networkShifter, Mockito.times(12)).shiftNetwork(Mockito.anyDouble(), Mockito.any());
+        assertThat(secondResult.getHighestValidStep().getRaoResult()).isSameAs(firstResult.getHighestValidStep().getRaoResult());
+        assertThat(secondResult.hasSummaryStep()).isFalse();
+    }
+
+    @Test
+    void checkThatValidatorFailsWithLossyCache() {
+        final StepResultCache<Object> lossyCache = new FileStepResultCache<>(directory, new ValidationDataStepResultCodec<>(), 100);
+        final NetworkValidator<Object> networkValidator = new NetworkValidatorMock(-340);
+        assertThatExceptionOfType(DichotomyException.class)
+            .isThrownBy(() -> new CachingNetworkValidator<>(networkValidator, lossyCache, "network-fingerprint", "shift-configuration"));
+    }
+
+    @Test
+    void checkRunSucceedsWhenStepResultsCannotBeCached() {
+        final StepResultCache<Object> failingCache = new StepResultCache<>() {
+            @Override
+            public boolean contains(StepCacheKey key) {
+                return false;
+            }
+
+            @Override
+            public DichotomyStepResult<Object> get(StepCacheKey key) {
+                return null;
+            }
+
+            @Override
+            public void put(StepCacheKey key, DichotomyStepResult<Object> stepResult) {
+                throw new DichotomyException("Impossible to cache step result");
+            }
+        };
+        final AtomicInteger validationsCount = new AtomicInteger();
+
+        final DichotomyResult<Object> result = runDichotomy(failingCache, Mockito.mock(NetworkShifter.class), validationsCount);
+
+        assertThat(validationsCount.get()).isEqualTo(6);
+        assertThat(result.getHighestValidStepValue()).isLessThan(-340);
+        assertThat(result.getLowestInvalidStepValue()).isGreaterThanOrEqualTo(-340);
+    }
+
+    @Test
+    void checkPendingStepIsDroppedWhenShiftFails() throws Exception {
+        final Network network = Network.read("20210901_2230_test_network.uct", getClass().getResourceAsStream(NETWORK_FILE));
+        final StepResultCache<Object> cache = new FileStepResultCache<>(directory, new JavaSerializationStepResultCodec<>(), 100);
+        cache.put(StepCacheKey.of("network-fingerprint", "shift-configuration", 100), DichotomyStepResult.fromNetworkValidationResult(null, null, true));
+        final AtomicInteger validationsCount = new AtomicInteger();
+        final CachingNetworkValidator<Object> cachingValidator = new CachingNetworkValidator<>((stepNetwork, lastDichotomyStepResult) -> {
+            validationsCount.incrementAndGet();
+            return DichotomyStepResult.fromNetworkValidationResult(null, null, false);
+        }, cache, "network-fingerprint", "shift-configuration");
+        final NetworkShifter failingShifter = Mockito.mock(NetworkShifter.class);
+        Mockito.doThrow(new GlskLimitationException("GLSK limits reached")).when(failingShifter).shiftNetwork(Mockito.eq(200.), Mockito.any());
+        final NetworkShifter cachingShifter = cachingValidator.cachingShifter(failingShifter);
+
+        // Cached step shifted but never validated, then a step whose shift fails on the same variant
+        cachingShifter.shiftNetwork(100, network);
+        assertThatExceptionOfType(GlskLimitationException.class).isThrownBy(() -> cachingShifter.shiftNetwork(200, network));
+        final DichotomyStepResult<Object> stepResult = cachingValidator.validateNetwork(network, null);
+
+        assertThat(stepResult.isValid()).isFalse();
+        assertThat(validationsCount.get()).isEqualTo(1);
+    }
+
+    private static final class InMemoryStepResultCache implements StepResultCache<Object> {
+        private final Map<StepCacheKey, DichotomyStepResult<Object>> stepResults = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean contains(StepCacheKey key) {
+            return stepResults.containsKey(key);
+        }
+
+        @Override
+        public DichotomyStepResult<Object> get(StepCacheKey key) {
+            return stepResults.get(key);
+        }
+
+        @Override
+        public void put(StepCacheKey key, DichotomyStepResult<Object> stepResult) {
+            stepResults.put(key, stepResult);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.api.validation;
+
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CascadedNetworkValidatorTest {
+    private Network network;
+    private NetworkValidator<Double> dcValidator;
+    private NetworkValidator<Double> acValidator;
+    private NetworkValidator<Double> raoValidator;
+
+    @BeforeEach
+    void setUp() {
+        network = mock(Network.class);
+        VariantManager variantManager = mock(VariantManager.class);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getWorkingVariantId()).thenReturn("variant");
+        dcValidator = mock(NetworkValidator.class);
+        acValidator = mock(NetworkValidator.class);
+        raoValidator = mock(NetworkValidator.class);
+    }
+
+    private static DichotomyStepResult<Double> stepResult(double margin) {
+        return DichotomyStepResult.fromNetworkValidationResult(null, margin, margin >= 0);
+    }
+
+    private CascadedNetworkValidator<Double> buildValidator() {
+        return new CascadedNetworkValidator<>(List.of(
+            ValidationStage.of("dc-loadflow", dcValidator, result -> Math.abs(result.getValidationData()) > 500),
+            ValidationStage.of("ac-loadflow", acValidator, DichotomyStepResult::isValid)),
+            "full-rao", raoValidator);
+    }
+
+    @Test
+    void checkChainStopsAtFirstDecidingStage() throws ValidationException, RaoFailureException, RaoInterruptionException {
+        when(dcValidator.validateNetwork(network, null)).thenReturn(stepResult(-800));
+
+        DichotomyStepResult<Double> result = buildValidator().validateNetwork(network, null);
+
+        assertFalse(result.isValid());
+        assertEquals("dc-loadflow", result.getDecidingStage());
+        assertEquals(-800., result.getValidationData());
+        verifyNoInteractions(acValidator, raoValidator);
+    }
+
+    @Test
+    void checkSecureStepIsDecidedByIntermediateStage() throws ValidationException, RaoFailureException, RaoInterruptionException {
+        when(dcValidator.validateNetwork(network, null)).thenReturn(stepResult(100));
+        when(acValidator.validateNetwork(network, null)).thenReturn(stepResult(20));
+
+        DichotomyStepResult<Double> result = buildValidator().validateNetwork(network, null);
+
+        assertTrue(result.isValid());
+        assertEquals("ac-loadflow", result.getDecidingStage());
+        verifyNoInteractions(raoValidator);
+    }
+
+    @Test
+    void checkFinalValidatorDecidesWhenNoStageIsConclusive() throws ValidationException, RaoFailureException, RaoInterruptionException {
+        DichotomyStepResult<Double> lastStepResult = stepResult(50);
+        when(dcValidator.validateNetwork(network, lastStepResult)).thenReturn(stepResult(-100));
+        when(acValidator.validateNetwork(network, lastStepResult)).thenReturn(stepResult(-50));
+        when(raoValidator.validateNetwork(network, lastStepResult)).thenReturn(stepResult(10));
+
+        DichotomyStepResult<Double> result = buildValidator().validateNetwork(network, lastStepResult);
+
+        assertTrue(result.isValid());
+        assertEquals("full-rao", result.getDecidingStage());
+        assertEquals(10., result.getValidationData());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.powsybl.glsk.api.io.GlskDocumentImporters;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Access to the UCTE network and CSE GLSK used by the benchmarks, read from the test resources of the
+ * farao-dichotomy-shift module.
+ */
+final class BenchmarkNetworks {
+    static final String NETWORK_FILENAME = "20210901_2230_test_network.uct";
+    static final String GLSK_FILENAME = "20210901_2230_213_GSK_CO_CSE1.xml";
+    private static final String RESOURCES_DIRECTORY = "/com/farao_community/farao/dichotomy/shift/";
+    static final String GLSK_ZONE = "10YCH-SWISSGRIDZ";
+    static final String IEEE_300_BUSES = "ieee300";
+    static final String MESHED_10000_BUSES = "meshed10000";
+    private static final int MESHED_NETWORK_BUS_COUNT = 10_000;
+
+    private BenchmarkNetworks() {
+    }
+
+    static Network readNetwork() {
+        return Network.read(NETWORK_FILENAME, Objects.requireNonNull(BenchmarkNetworks.class.getResourceAsStream(RESOURCES_DIRECTORY + NETWORK_FILENAME)));
+    }
+
+    /**
+     * @param networkFile path of a network file in any format supported by powsybl, {@value #IEEE_300_BUSES} to use
+     *                    the IEEE 300 buses network, {@value #MESHED_10000_BUSES} to use a synthetic meshed network
+     *                    of the size of a merged European grid model, empty to use the test network
+     */
+    static Network readNetwork(String networkFile) {
+        if (networkFile.isEmpty()) {
+            return readNetwork();
+        }
+        if (networkFile.equals(IEEE_300_BUSES)) {
+            return IeeeCdfNetworkFactory.create300();
+        }
+        if (networkFile.equals(MESHED_10000_BUSES)) {
+            return createMeshedNetwork(MESHED_NETWORK_BUS_COUNT);
+        }
+        return Network.read(Path.of(networkFile));
+    }
+
+    /**
+     * Builds a network of the given number of 400 kV buses, each one with its own substation, generator and load. Buses
+     * are connected in a ring and each one is also connected to the bus located a square root of the bus count further,
+     * which gives two lines per bus.
+     */
+    static Network createMeshedNetwork(int busCount) {
+        final Network network = Network.create("meshed-" + busCount, "benchmark");
+        for (int i = 0; i < busCount; i++) {
+            final VoltageLevel voltageLevel = network.newSubstation()
+                .setId("S" + i)
+                .add()
+                .newVoltageLevel()
+                .setId(voltageLevelId(i))
+                .setNominalV(400)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+            voltageLevel.getBusBreakerView().newBus()
+                .setId(busId(i))
+                .add();
+            voltageLevel.newGenerator()
+                .setId("G" + i)
+                .setBus(busId(i))
+                .setConnectableBus(busId(i))
+                .setMinP(0)
+                .setMaxP(1000)
+                .setTargetP(100)
+                .setTargetV(400)
+                .setVoltageRegulatorOn(true)
+                .add();
+            voltageLevel.newLoad()
+                .setId("L" + i)
+                .setBus(busId(i))
+                .setConnectableBus(busId(i))
+                .setP0(100)
+                .setQ0(10)
+                .add();
+        }
+        final int meshStride = Math.max(2, (int) Math.sqrt(busCount));
+        for (int i = 0; i < busCount; i++) {
+            addLine(network, i, (i + 1) % busCount);
+            addLine(network, i, (i + meshStride) % busCount);
+        }
+        return network;
+    }
+
+    private static void addLine(Network network, int bus1, int bus2) {
+        network.newLine()
+            .setId(String.format("LINE-%d-%d", bus1, bus2))
+            .setVoltageLevel1(voltageLevelId(bus1))
+            .setBus1(busId(bus1))
+            .setConnectableBus1(busId(bus1))
+            .setVoltageLevel2(voltageLevelId(bus2))
+            .setBus2(busId(bus2))
+            .setConnectableBus2(busId(bus2))
+            .setR(1)
+            .setX(10)
+            .setG1(0)
+            .setB1(0)
+            .setG2(0)
+            .setB2(0)
+            .add();
+    }
+
+    private static String voltageLevelId(int bus) {
+        return "VL" + bus;
+    }
+
+    private static String busId(int bus) {
+        return "B" + bus;
+    }
+
+    static ZonalData<Scalable> readZonalScalable(Network network) {
+        return GlskDocumentImporters
+            .importGlsk(Objects.requireNonNull(BenchmarkNetworks.class.getResourceAsStream(RESOURCES_DIRECTORY + GLSK_FILENAME)))
+            .getZonalScalable(network);
+    }
+}
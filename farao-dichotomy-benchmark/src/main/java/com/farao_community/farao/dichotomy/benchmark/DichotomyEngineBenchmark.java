@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.powsybl.iidm.network.Network;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole dichotomy runs with a synthetic validator, so that the overhead of the engine itself (variant handling,
+ * index bookkeeping, listeners) is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DichotomyEngineBenchmark {
+    private static final double LIMIT = 1234.5;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    @Param({"0", "10000"})
+    public long validationCostTokens;
+
+    @Param({"false", "true"})
+    public boolean variantReuse;
+
+    private Network network;
+
+    @Setup
+    public void setUp() {
+        network = BenchmarkNetworks.readNetwork();
+    }
+
+    @Benchmark
+    public DichotomyResult<Object> run() {
+        final SyntheticNetworkShifter networkShifter = new SyntheticNetworkShifter();
+        final DichotomyEngine<Object> engine = DichotomyEngine.builder()
+            .withIndex(new Index<>(-5000, 5000, 10))
+            .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+            .withNetworkShifter(networkShifter)
+            .withNetworkValidator(new SyntheticNetworkValidator(networkShifter, LIMIT, validationCostTokens))
+            .withParallelism(parallelism)
+            .withVariantReuse(variantReuse)
+            .build();
+        return engine.run(network);
+    }
+}
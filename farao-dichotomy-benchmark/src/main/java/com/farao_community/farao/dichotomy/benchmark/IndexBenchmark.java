@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.ReasonInvalid;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bookkeeping of tested steps in the index, which is done at each step of the dichotomy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+    private static final DichotomyStepResult<Object> SECURE_STEP = DichotomyStepResult.fromSummary(ReasonInvalid.NONE, null);
+    private static final DichotomyStepResult<Object> UNSECURE_STEP = DichotomyStepResult.fromSummary(ReasonInvalid.UNSECURE_AFTER_VALIDATION, null);
+
+    @Param({"10", "100", "1000"})
+    public int stepsCount;
+
+    private Index<Object> filledIndex;
+
+    @Setup
+    public void setUp() {
+        filledIndex = fillIndex();
+    }
+
+    @Benchmark
+    public Index<Object> addDichotomyStepResults() {
+        return fillIndex();
+    }
+
+    @Benchmark
+    public List<Pair<Double, DichotomyStepResult<Object>>> testedSteps() {
+        return filledIndex.testedSteps();
+    }
+
+    @Benchmark
+    public List<Pair<Double, DichotomyStepResult<Object>>> testedStepsView() {
+        return filledIndex.testedStepsView();
+    }
+
+    @Benchmark
+    public Pair<Double, DichotomyStepResult<Object>> lastTestedStep() {
+        return filledIndex.testedStepsView().getLast();
+    }
+
+    @Benchmark
+    public DichotomyStepResult<Object> lastStepResult() {
+        return filledIndex.lastStepResult();
+    }
+
+    /**
+     * Alternates secure steps by increasing value and unsecure steps by decreasing value, converging to the middle of
+     * the index as a dichotomy would.
+     */
+    private Index<Object> fillIndex() {
+        final Index<Object> index = new Index<>(0, stepsCount, 1);
+        for (int i = 0; i < stepsCount; i++) {
+            if (i % 2 == 0) {
+                index.addDichotomyStepResult(i / 2., SECURE_STEP);
+            } else {
+                index.addDichotomyStepResult(stepsCount - i / 2., UNSECURE_STEP);
+            }
+        }
+        return index;
+    }
+}
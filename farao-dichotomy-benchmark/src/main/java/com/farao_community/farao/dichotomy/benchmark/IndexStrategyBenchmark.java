@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.farao_community.farao.dichotomy.api.index.BiDirectionalStepsIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.BiDirectionalStepsWithReferenceIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.HalfRangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.MarginInterpolationIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.SensitivityNewtonIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.StepsIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.WarmStartIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.results.MarginSensitivityData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complete searches driven by each index strategy on an index only, without any network, the security of a step
+ * being decided by a fixed limit. Each step exposes a slightly non-linear margin to the limit and its sensitivity, for
+ * the strategies that use them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexStrategyBenchmark {
+    private static final double MIN_VALUE = -5000;
+    private static final double MAX_VALUE = 5000;
+    private static final double PRECISION = 10;
+    private static final double LIMIT = 1234.5;
+    private static final int MAX_ITERATIONS = 1000;
+
+    public enum Strategy {
+        RANGE_DIVISION,
+        HALF_RANGE_DIVISION,
+        STEPS,
+        BI_DIRECTIONAL_STEPS,
+        BI_DIRECTIONAL_STEPS_WITH_REFERENCE,
+        WARM_START,
+        MARGIN_INTERPOLATION,
+        SENSITIVITY_NEWTON
+    }
+
+    @Param
+    public Strategy strategy;
+
+    @Benchmark
+    public Index<Object> search() {
+        final Index<Object> index = new Index<>(MIN_VALUE, MAX_VALUE, PRECISION);
+        final IndexStrategy<Object> indexStrategy = createIndexStrategy();
+        int iterations = 0;
+        while (!indexStrategy.precisionReached(index) && iterations < MAX_ITERATIONS) {
+            final double stepValue = indexStrategy.nextValue(index);
+            index.addDichotomyStepResult(stepValue, DichotomyStepResult.fromNetworkValidationResult(null, new SyntheticMargin(stepValue), stepValue < LIMIT));
+            iterations++;
+        }
+        return index;
+    }
+
+    private IndexStrategy<Object> createIndexStrategy() {
+        return switch (strategy) {
+            case RANGE_DIVISION -> new RangeDivisionIndexStrategy<>(true);
+            case HALF_RANGE_DIVISION -> new HalfRangeDivisionIndexStrategy<>(false);
+            case STEPS -> new StepsIndexStrategy<>(true, 500);
+            case BI_DIRECTIONAL_STEPS -> new BiDirectionalStepsIndexStrategy<>(0, 500);
+            case BI_DIRECTIONAL_STEPS_WITH_REFERENCE -> new BiDirectionalStepsWithReferenceIndexStrategy<>(0, 500, 1000);
+            case WARM_START -> new WarmStartIndexStrategy<>(1000, 1500);
+            case MARGIN_INTERPOLATION -> new MarginInterpolationIndexStrategy<>(true,
+                stepResult -> stepResult.getValidationData() instanceof SyntheticMargin margin ? margin.getMargin() : Double.NaN);
+            case SENSITIVITY_NEWTON -> new SensitivityNewtonIndexStrategy<>(0);
+        };
+    }
+
+    /**
+     * Margin to the limit, that decreases faster as the step value gets higher.
+     */
+    private static final class SyntheticMargin implements MarginSensitivityData {
+        private final double distanceToLimit;
+
+        private SyntheticMargin(double stepValue) {
+            this.distanceToLimit = LIMIT - stepValue;
+        }
+
+        @Override
+        public double getMargin() {
+            return distanceToLimit + distanceToLimit * distanceToLimit / (MAX_VALUE - MIN_VALUE);
+        }
+
+        @Override
+        public double getMarginSensitivity() {
+            return -1 - 2 * distanceToLimit / (MAX_VALUE - MIN_VALUE);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.shift.LinearScaler;
+import com.farao_community.farao.dichotomy.shift.SplittingFactors;
+import com.powsybl.iidm.network.Network;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shift of the UCTE test network by the {@link LinearScaler}, each invocation starting from a fresh variant of the
+ * initial network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinearScalerBenchmark {
+    private static final String SHIFTED_VARIANT = "shifted";
+
+    @Param({"50", "200"})
+    public double stepValue;
+
+    private Network network;
+    private String initialVariant;
+    private LinearScaler linearScaler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        network = BenchmarkNetworks.readNetwork();
+        initialVariant = network.getVariantManager().getWorkingVariantId();
+        linearScaler = new LinearScaler(BenchmarkNetworks.readZonalScalable(network), new SplittingFactors(Map.of(BenchmarkNetworks.GLSK_ZONE, 1.)));
+    }
+
+    @Setup(Level.Invocation)
+    public void cloneVariant() {
+        network.getVariantManager().cloneVariant(initialVariant, SHIFTED_VARIANT, true);
+        network.getVariantManager().setWorkingVariant(SHIFTED_VARIANT);
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeVariant() {
+        network.getVariantManager().setWorkingVariant(initialVariant);
+        network.getVariantManager().removeVariant(SHIFTED_VARIANT);
+    }
+
+    @Benchmark
+    public Network shiftNetwork() throws GlskLimitationException, ShiftingException {
+        linearScaler.shiftNetwork(stepValue, network);
+        return network;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.utils.NetworkFingerprint;
+import com.farao_community.farao.dichotomy.shift.LinearScaler;
+import com.farao_community.farao.dichotomy.shift.SplittingFactors;
+import com.powsybl.iidm.network.Network;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fingerprint of the UCTE test network, on its initial variant and on a variant shifted by the {@link LinearScaler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkFingerprintBenchmark {
+    private static final String SHIFTED_VARIANT = "shifted";
+
+    private Network network;
+    private String initialVariant;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GlskLimitationException, ShiftingException {
+        network = BenchmarkNetworks.readNetwork();
+        initialVariant = network.getVariantManager().getWorkingVariantId();
+        network.getVariantManager().cloneVariant(initialVariant, SHIFTED_VARIANT);
+        network.getVariantManager().setWorkingVariant(SHIFTED_VARIANT);
+        new LinearScaler(BenchmarkNetworks.readZonalScalable(network), new SplittingFactors(Map.of(BenchmarkNetworks.GLSK_ZONE, 1.)))
+            .shiftNetwork(200, network);
+    }
+
+    @Benchmark
+    public byte[] fingerprintInitialVariant() {
+        network.getVariantManager().setWorkingVariant(initialVariant);
+        return NetworkFingerprint.hash(network);
+    }
+
+    @Benchmark
+    public byte[] fingerprintShiftedVariant() {
+        network.getVariantManager().setWorkingVariant(SHIFTED_VARIANT);
+        return NetworkFingerprint.hash(network);
+    }
+}
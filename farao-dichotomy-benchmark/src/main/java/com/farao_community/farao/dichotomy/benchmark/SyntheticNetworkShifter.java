@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.powsybl.iidm.network.Network;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Network shifter that does not modify the network but records the step value applied on each variant, so that
+ * {@link SyntheticNetworkValidator} could decide on the security of the step without any computation.
+ */
+final class SyntheticNetworkShifter implements NetworkShifter {
+    private final Map<String, Double> stepValueByVariant = new ConcurrentHashMap<>();
+
+    @Override
+    public void shiftNetwork(double stepValue, Network network) {
+        stepValueByVariant.put(network.getVariantManager().getWorkingVariantId(), stepValue);
+    }
+
+    double stepValue(Network network) {
+        return stepValueByVariant.get(network.getVariantManager().getWorkingVariantId());
+    }
+}
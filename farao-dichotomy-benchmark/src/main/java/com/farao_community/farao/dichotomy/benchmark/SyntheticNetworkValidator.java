@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Network validator considering secure every step below a given limit. An optional CPU cost, expressed in JMH tokens,
+ * can be consumed at each validation to mimic a computation.
+ */
+final class SyntheticNetworkValidator implements NetworkValidator<Object> {
+    private final SyntheticNetworkShifter networkShifter;
+    private final double limit;
+    private final long validationCostTokens;
+
+    SyntheticNetworkValidator(SyntheticNetworkShifter networkShifter, double limit, long validationCostTokens) {
+        this.networkShifter = networkShifter;
+        this.limit = limit;
+        this.validationCostTokens = validationCostTokens;
+    }
+
+    @Override
+    public DichotomyStepResult<Object> validateNetwork(Network network, DichotomyStepResult<Object> lastDichotomyStepResult) {
+        if (validationCostTokens > 0) {
+            Blackhole.consumeCPU(validationCostTokens);
+        }
+        return DichotomyStepResult.fromNetworkValidationResult(null, null, networkShifter.stepValue(network) < limit);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.benchmark;
+
+import com.farao_community.farao.dichotomy.api.VariantPool;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-step variant overhead of the dichotomy engine: a new variant cloned then removed for each step, against a
+ * variant of a {@link VariantPool} overwritten with the initial state. Both copy the whole variant data, the pool only
+ * saves the resizing of the variant arrays. The overhead is reported on the small UCTE test network, on the IEEE 300
+ * buses network and on a synthetic meshed network of 10 000 buses. Real grid models can be benchmarked with
+ * {@code -p networkFile=/path/to/network}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariantPoolBenchmark {
+    private static final String STEP_VARIANT = "step";
+
+    @Param({"", BenchmarkNetworks.IEEE_300_BUSES, BenchmarkNetworks.MESHED_10000_BUSES})
+    public String networkFile;
+
+    private Network network;
+    private String initialVariant;
+    private VariantPool variantPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        network = BenchmarkNetworks.readNetwork(networkFile);
+        initialVariant = network.getVariantManager().getWorkingVariantId();
+        variantPool = new VariantPool(network, initialVariant);
+    }
+
+    @TearDown
+    public void tearDown() {
+        variantPool.close();
+    }
+
+    @Benchmark
+    public String cloneAndRemoveVariant() {
+        final VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(initialVariant, STEP_VARIANT);
+        variantManager.setWorkingVariant(STEP_VARIANT);
+        variantManager.setWorkingVariant(initialVariant);
+        variantManager.removeVariant(STEP_VARIANT);
+        return STEP_VARIANT;
+    }
+
+    @Benchmark
+    public String acquireAndReleasePooledVariant() {
+        final VariantManager variantManager = network.getVariantManager();
+        final String variant = variantPool.acquire();
+        variantManager.setWorkingVariant(variant);
+        variantManager.setWorkingVariant(initialVariant);
+        variantPool.release(variant);
+        return variant;
+    }
+}
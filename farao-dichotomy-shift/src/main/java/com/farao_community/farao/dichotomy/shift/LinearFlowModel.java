@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.shift;
+
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sensitivity.SensitivityAnalysis;
+import com.powsybl.sensitivity.SensitivityAnalysisParameters;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityFactor;
+import com.powsybl.sensitivity.SensitivityFunctionType;
+import com.powsybl.sensitivity.SensitivityValue;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.powsybl.sensitivity.SensitivityVariableType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Linearised flows of a set of critical network elements, as computed once by a DC sensitivity analysis on the base
+ * network: the flow of each element is its base flow plus the sum over GLSK zones of its PTDF times the shift of the zone.
+ * Elements monitored after a contingency are distinct elements of the model, with their own PTDFs and base flows.
+ */
+public final class LinearFlowModel {
+    private final List<String> cnecIds;
+    private final Map<String, Integer> zoneIndexes = new HashMap<>();
+    private final double[][] ptdfs;
+    private final double[] baseFlows;
+    private final double[] flowLimits;
+
+    /**
+     * @param cnecIds: Ids of the critical network elements, in the order of the rows of the matrix
+     * @param zoneIds: Ids of the GLSK zones, in the order of the columns of the matrix
+     * @param ptdfs: PTDF of each element (rows) for each zone (columns), in MW of flow per MW of shift
+     * @param baseFlows: Flow of each element on the base network, in MW
+     * @param flowLimits: Maximum admissible flow of each element in both directions, in MW
+     */
+    public LinearFlowModel(List<String> cnecIds, List<String> zoneIds, double[][] ptdfs, double[] baseFlows, double[] flowLimits) {
+        if (ptdfs.length != cnecIds.size() || baseFlows.length != cnecIds.size() || flowLimits.length != cnecIds.size()) {
+            throw new DichotomyException("Linear flow model should define PTDFs, base flow and flow limit of each critical network element.");
+        }
+        for (double[] elementPtdfs : ptdfs) {
+            if (elementPtdfs.length != zoneIds.size()) {
+                throw new DichotomyException("Linear flow model should define PTDFs of each critical network element for each zone.");
+            }
+        }
+        this.cnecIds = List.copyOf(cnecIds);
+        for (int zone = 0; zone < zoneIds.size(); zone++) {
+            zoneIndexes.put(zoneIds.get(zone), zone);
+        }
+        this.ptdfs = ptdfs;
+        this.baseFlows = baseFlows;
+        this.flowLimits = flowLimits;
+    }
+
+    /**
+     * Computes the model with a DC sensitivity analysis of the working variant of the network, run once with the
+     * default sensitivity analysis provider. Each branch is monitored in the base case and after each contingency,
+     * with the same flow limit: the element of a branch after a contingency has id {@code <branch id>/<contingency id>}.
+     *
+     * @param zonalGlsks: GLSK of each zone, as given by {@code GlskDocument.getZonalGlsks(network)}
+     * @param branchIds: Ids of the critical branches, whose flows are monitored on their side 1
+     * @param contingencies: Contingencies after which the branches are monitored, typically the ones of the CRAC
+     * @param flowLimits: Maximum admissible flow of each branch in both directions, in MW
+     */
+    public static LinearFlowModel fromDcSensitivity(Network network, ZonalData<SensitivityVariableSet> zonalGlsks, List<String> branchIds,
+                                                    List<Contingency> contingencies, double[] flowLimits) {
+        return fromDcSensitivity(SensitivityAnalysis.find(), network, zonalGlsks, branchIds, contingencies, flowLimits);
+    }
+
+    /**
+     * Same as {@link #fromDcSensitivity(Network, ZonalData, List, List, double[])}, with the given sensitivity analysis runner.
+     */
+    public static LinearFlowModel fromDcSensitivity(SensitivityAnalysis.Runner sensitivityAnalysisRunner, Network network,
+                                                    ZonalData<SensitivityVariableSet> zonalGlsks, List<String> branchIds,
+                                                    List<Contingency> contingencies, double[] flowLimits) {
+        if (flowLimits.length != branchIds.size()) {
+            throw new DichotomyException("Linear flow model should define the flow limit of each critical branch.");
+        }
+        List<String> zoneIds = new ArrayList<>(zonalGlsks.getDataPerZone().keySet());
+        List<SensitivityVariableSet> variableSets = zoneIds.stream().map(zonalGlsks::getData).toList();
+        // Factors are ordered by branch then by zone, so that the factor index gives the cell of the matrix, the
+        // contingency index of the value giving the state of the branch
+        List<SensitivityFactor> factors = new ArrayList<>(branchIds.size() * zoneIds.size());
+        for (String branchId : branchIds) {
+            for (SensitivityVariableSet variableSet : variableSets) {
+                factors.add(new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, branchId,
+                    SensitivityVariableType.INJECTION_ACTIVE_POWER, variableSet.getId(), true, ContingencyContext.all()));
+            }
+        }
+        SensitivityAnalysisParameters parameters = new SensitivityAnalysisParameters();
+        parameters.getLoadFlowParameters().setDc(true);
+        SensitivityAnalysisResult result = sensitivityAnalysisRunner.run(network, network.getVariantManager().getWorkingVariantId(),
+            factors, contingencies, variableSets, parameters);
+
+        int statesCount = contingencies.size() + 1;
+        List<String> cnecIds = new ArrayList<>(branchIds.size() * statesCount);
+        double[] cnecFlowLimits = new double[branchIds.size() * statesCount];
+        for (int branch = 0; branch < branchIds.size(); branch++) {
+            cnecIds.add(branchIds.get(branch));
+            for (Contingency contingency : contingencies) {
+                cnecIds.add(branchIds.get(branch) + "/" + contingency.getId());
+            }
+            Arrays.fill(cnecFlowLimits, branch * statesCount, (branch + 1) * statesCount, flowLimits[branch]);
+        }
+        double[][] ptdfs = new double[cnecIds.size()][zoneIds.size()];
+        double[] baseFlows = new double[cnecIds.size()];
+        for (SensitivityValue value : result.getValues()) {
+            int cnec = value.getFactorIndex() / zoneIds.size() * statesCount + value.getContingencyIndex() + 1;
+            ptdfs[cnec][value.getFactorIndex() % zoneIds.size()] = value.getValue();
+            baseFlows[cnec] = value.getFunctionReference();
+        }
+        return new LinearFlowModel(cnecIds, zoneIds, ptdfs, baseFlows, cnecFlowLimits);
+    }
+
+    public List<String> cnecIds() {
+        return cnecIds;
+    }
+
+    /**
+     * @return true if the model holds the PTDFs of the given zone
+     */
+    public boolean hasZone(String zoneId) {
+        return zoneIndexes.containsKey(zoneId);
+    }
+
+    /**
+     * @return the predicted flow of each element, in the order of the element ids, for the given shifts by zone
+     */
+    public double[] predictFlows(Map<String, Double> shiftsByZone) {
+        double[] shifts = new double[zoneIndexes.size()];
+        shiftsByZone.forEach((zoneId, shift) -> shifts[zoneIndexes.get(zoneId)] = shift);
+        double[] flows = baseFlows.clone();
+        for (int cnec = 0; cnec < flows.length; cnec++) {
+            double[] elementPtdfs = ptdfs[cnec];
+            for (int zone = 0; zone < shifts.length; zone++) {
+                flows[cnec] += elementPtdfs[zone] * shifts[zone];
+            }
+        }
+        return flows;
+    }
+
+    /**
+     * @return the lowest predicted margin of the elements for the given shifts by zone, negative when an element is overloaded
+     */
+    public double minMargin(Map<String, Double> shiftsByZone) {
+        double[] flows = predictFlows(shiftsByZone);
+        double minMargin = Double.POSITIVE_INFINITY;
+        for (int cnec = 0; cnec < flows.length; cnec++) {
+            minMargin = Math.min(minMargin, flowLimits[cnec] - Math.abs(flows[cnec]));
+        }
+        return minMargin;
+    }
+}
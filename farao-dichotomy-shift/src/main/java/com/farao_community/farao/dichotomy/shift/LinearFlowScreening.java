@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.shift;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.utils.Formatter;
+import com.farao_community.farao.dichotomy.api.validation.ValidationStage;
+import com.powsybl.iidm.network.Network;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_LOGS;
+
+/**
+ * Validation stage screening steps with a {@link LinearFlowModel}: the flows of the step are predicted from the shifts
+ * dispatched for its step value, by a matrix-vector product instead of a loadflow. The screening is conservative: the
+ * step is decided unsecure when the lowest predicted margin is below the opposite of the uncertainty band, and left to
+ * the next stages of the {@link com.farao_community.farao.dichotomy.api.validation.CascadedNetworkValidator} otherwise,
+ * so that no step is ever decided secure without a full validation.
+ *
+ * <p>Step values are not given to network validators, so the network shifter of the dichotomy must be wrapped by
+ * {@link #recordingShifter(NetworkShifter)}, which records the step value of each shifted variant.</p>
+ *
+ * <p>Steps decided by the screening hold neither RAO result nor validation data. They may remain the lowest invalid
+ * step of the final bracket of the dichotomy: such steps are recognised by their deciding stage, {@value #STAGE_NAME},
+ * see {@link DichotomyStepResult#getDecidingStage()}.</p>
+ */
+public final class LinearFlowScreening<I> implements ValidationStage<I> {
+    public static final String STAGE_NAME = "linear-flow-screening";
+
+    private final LinearFlowModel linearFlowModel;
+    private final ShiftDispatcher shiftDispatcher;
+    private final double uncertaintyBand;
+    private final Map<String, Double> stepValuesByVariant = new ConcurrentHashMap<>();
+
+    /**
+     * @param uncertaintyBand: Margin, in MW, within which the linear prediction is not trusted
+     */
+    public LinearFlowScreening(LinearFlowModel linearFlowModel, ShiftDispatcher shiftDispatcher, double uncertaintyBand) {
+        if (uncertaintyBand < 0) {
+            throw new DichotomyException("Uncertainty band of linear flow screening should not be negative.");
+        }
+        this.linearFlowModel = Objects.requireNonNull(linearFlowModel);
+        this.shiftDispatcher = Objects.requireNonNull(shiftDispatcher);
+        this.uncertaintyBand = uncertaintyBand;
+    }
+
+    /**
+     * @return a network shifter shifting each variant with the given one, then recording its step value. Nothing is
+     * recorded for a variant whose shift failed, as it is not validated.
+     */
+    public NetworkShifter recordingShifter(NetworkShifter networkShifter) {
+        return (stepValue, network) -> {
+            String variantId = network.getVariantManager().getWorkingVariantId();
+            // A value left by a step that was shifted but never validated must not be used for this one
+            stepValuesByVariant.remove(variantId);
+            networkShifter.shiftNetwork(stepValue, network);
+            stepValuesByVariant.put(variantId, stepValue);
+        };
+    }
+
+    @Override
+    public String name() {
+        return STAGE_NAME;
+    }
+
+    @Override
+    public Optional<DichotomyStepResult<I>> screen(Network network, DichotomyStepResult<I> lastDichotomyStepResult) throws ValidationException {
+        Double stepValue = stepValuesByVariant.remove(network.getVariantManager().getWorkingVariantId());
+        if (stepValue == null) {
+            return Optional.empty();
+        }
+        Map<String, Double> shiftsByZone;
+        try {
+            shiftsByZone = shiftDispatcher.dispatch(stepValue);
+        } catch (ShiftingException e) {
+            throw new ValidationException("Shifts of the step could not be dispatched for linear flow screening", e);
+        }
+        if (!shiftsByZone.keySet().stream().allMatch(linearFlowModel::hasZone)) {
+            return Optional.empty();
+        }
+        double minMargin = linearFlowModel.minMargin(shiftsByZone);
+        BUSINESS_LOGS.info(String.format("Linear flow screening of step value %s: predicted minimum margin %s",
+            Formatter.formatDoubleDecimals(stepValue), Formatter.formatDoubleDecimals(minMargin)));
+        if (minMargin < -uncertaintyBand) {
+            return Optional.of(DichotomyStepResult.fromNetworkValidationResult(null, null, false));
+        }
+        return Optional.empty();
+    }
+}
@@ -6,9 +6,10 @@
  */
 package com.farao_community.farao.dichotomy.shift;
 
-import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.IncrementalNetworkShifter;
 import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
 import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.jfr.ZoneScalingEvent;
 import com.farao_community.farao.dichotomy.api.utils.Formatter;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.modification.scalable.Scalable;
@@ -16,6 +17,7 @@ import com.powsybl.iidm.modification.scalable.ScalingParameters;
 import com.powsybl.iidm.network.Network;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
@@ -26,11 +28,12 @@ import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerPro
  * This final implementation of network validation strategy use basic scaling strategy for network shifting. According
  * to a set of {@link Scalable} defined by {@link ZonalData} it performs a simple shift -- without balancing -- on the
  * network. The way to define shift amounts per zonal data -- how to dispatch the shift between areas from step
- * value -- is handled by {@link ShiftDispatcher}.
+ * value -- is handled by {@link ShiftDispatcher}. Each zone scaling is recorded as a {@link ZoneScalingEvent}.
+ * Incremental shifts scale each zone by the difference between the dispatched values of both step values.
  *
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  */
-public final class LinearScaler implements NetworkShifter {
+public final class LinearScaler implements IncrementalNetworkShifter {
     private static final double DEFAULT_EPSILON = 1e-2;
 
     private final ZonalData<Scalable> zonalScalable;
@@ -51,7 +54,26 @@ public final class LinearScaler implements NetworkShifter {
     public void shiftNetwork(double stepValue, Network network) throws GlskLimitationException, ShiftingException {
         BUSINESS_LOGS.info(String.format("Starting linear scaling on network %s with step value %s",
             network.getVariantManager().getWorkingVariantId(), Formatter.formatDoubleDecimals(stepValue)));
-        Map<String, Double> scalingValuesByCountry = shiftDispatcher.dispatch(stepValue);
+        scaleNetwork(zonalScalable, shiftEpsilon, stepValue, shiftDispatcher.dispatch(stepValue), network);
+    }
+
+    @Override
+    public void shiftNetworkIncrementally(double shiftedStepValue, double stepValue, Network network) throws GlskLimitationException, ShiftingException {
+        BUSINESS_LOGS.info(String.format("Starting incremental linear scaling on network %s from step value %s to step value %s",
+            network.getVariantManager().getWorkingVariantId(), Formatter.formatDoubleDecimals(shiftedStepValue), Formatter.formatDoubleDecimals(stepValue)));
+        Map<String, Double> shiftedValuesByCountry = shiftDispatcher.dispatch(shiftedStepValue);
+        Map<String, Double> scalingValuesByCountry = new HashMap<>();
+        shiftDispatcher.dispatch(stepValue).forEach((zoneId, value) -> scalingValuesByCountry.put(zoneId, value - shiftedValuesByCountry.getOrDefault(zoneId, 0.)));
+        shiftedValuesByCountry.forEach((zoneId, value) -> scalingValuesByCountry.putIfAbsent(zoneId, -value));
+        scaleNetwork(zonalScalable, shiftEpsilon, stepValue, scalingValuesByCountry, network);
+    }
+
+    /**
+     * Scales each zone by its given value, throwing a {@link GlskLimitationException} listing the zones whose variation
+     * is incomplete by more than the shift epsilon.
+     */
+    static void scaleNetwork(ZonalData<Scalable> zonalScalable, double shiftEpsilon, double stepValue,
+                             Map<String, Double> scalingValuesByCountry, Network network) throws GlskLimitationException {
         List<String> limitingCountries = new ArrayList<>();
         for (Map.Entry<String, Double> entry : scalingValuesByCountry.entrySet()) {
             String zoneId = entry.getKey();
@@ -60,7 +82,17 @@ public final class LinearScaler implements NetworkShifter {
             ScalingParameters scalingParameters = new ScalingParameters()
                     .setPriority(ScalingParameters.Priority.RESPECT_OF_VOLUME_ASKED)
                     .setReconnect(true);
+            ZoneScalingEvent zoneScalingEvent = new ZoneScalingEvent();
+            zoneScalingEvent.begin();
             double done = zonalScalable.getData(zoneId).scale(network, asked, scalingParameters);
+            zoneScalingEvent.end();
+            if (zoneScalingEvent.shouldCommit()) {
+                zoneScalingEvent.stepValue = stepValue;
+                zoneScalingEvent.zone = zoneId;
+                zoneScalingEvent.asked = asked;
+                zoneScalingEvent.done = done;
+                zoneScalingEvent.commit();
+            }
             if (Math.abs(done - asked) > shiftEpsilon) {
                 BUSINESS_WARNS.warn(String.format("Incomplete variation on zone %s (target: %s, done: %s)",
                     zoneId, Formatter.formatDoubleDecimals(asked), Formatter.formatDoubleDecimals(done)));
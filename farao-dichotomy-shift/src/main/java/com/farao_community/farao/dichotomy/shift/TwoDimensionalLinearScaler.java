@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.shift;
+
+import com.farao_community.farao.dichotomy.api.TwoDimensionalNetworkShifter;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.utils.Formatter;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Network;
+
+import static com.farao_community.farao.dichotomy.api.logging.DichotomyLoggerProvider.BUSINESS_LOGS;
+
+/**
+ * Two-dimensional counterpart of {@link LinearScaler}: the network is scaled as the {@link LinearScaler} does, with
+ * the shifts dispatched from the exchanges over both borders by a {@link TwoDimensionalShiftDispatcher}. Zone scaling
+ * events are recorded with the exchange over the first border as step value.
+ */
+public final class TwoDimensionalLinearScaler implements TwoDimensionalNetworkShifter {
+    private static final double DEFAULT_EPSILON = 1e-2;
+
+    private final ZonalData<Scalable> zonalScalable;
+    private final TwoDimensionalShiftDispatcher shiftDispatcher;
+    private final double shiftEpsilon;
+
+    public TwoDimensionalLinearScaler(ZonalData<Scalable> zonalScalable, TwoDimensionalShiftDispatcher shiftDispatcher) {
+        this(zonalScalable, shiftDispatcher, DEFAULT_EPSILON);
+    }
+
+    public TwoDimensionalLinearScaler(ZonalData<Scalable> zonalScalable, TwoDimensionalShiftDispatcher shiftDispatcher, double shiftEpsilon) {
+        this.zonalScalable = zonalScalable;
+        this.shiftDispatcher = shiftDispatcher;
+        this.shiftEpsilon = shiftEpsilon;
+    }
+
+    @Override
+    public void shiftNetwork(double exchangeA, double exchangeB, Network network) throws GlskLimitationException, ShiftingException {
+        BUSINESS_LOGS.info(String.format("Starting linear scaling on network %s with exchanges %s and %s",
+            network.getVariantManager().getWorkingVariantId(), Formatter.formatDoubleDecimals(exchangeA), Formatter.formatDoubleDecimals(exchangeB)));
+        LinearScaler.scaleNetwork(zonalScalable, shiftEpsilon, exchangeA, shiftDispatcher.dispatch(exchangeA, exchangeB), network);
+    }
+}
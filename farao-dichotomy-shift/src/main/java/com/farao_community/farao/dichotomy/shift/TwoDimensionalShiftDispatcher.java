@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.shift;
+
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dispatches the exchanges over two borders between areas.
+ */
+public interface TwoDimensionalShiftDispatcher {
+
+    Map<String, Double> dispatch(double exchangeA, double exchangeB) throws ShiftingException;
+
+    /**
+     * Builds a dispatcher that sums, for each area, the shifts dispatched by a dispatcher dedicated to each border.
+     */
+    static TwoDimensionalShiftDispatcher combine(ShiftDispatcher shiftDispatcherA, ShiftDispatcher shiftDispatcherB) {
+        return (exchangeA, exchangeB) -> {
+            Map<String, Double> shifts = new HashMap<>(shiftDispatcherA.dispatch(exchangeA));
+            shiftDispatcherB.dispatch(exchangeB).forEach((zoneId, value) -> shifts.merge(zoneId, value, Double::sum));
+            return shifts;
+        };
+    }
+}
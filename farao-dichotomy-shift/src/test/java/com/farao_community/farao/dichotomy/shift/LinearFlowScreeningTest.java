@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.shift;
+
+import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.DichotomyException;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.RangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.dichotomy.api.validation.CascadedNetworkValidator;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.glsk.commons.ZonalDataImpl;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.sensitivity.SensitivityAnalysis;
+import com.powsybl.sensitivity.SensitivityAnalysisParameters;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityValue;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.powsybl.sensitivity.WeightedSensitivityVariable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinearFlowScreeningTest {
+    private Network network;
+    private NetworkShifter networkShifter;
+    private LinearFlowScreening<Object> screening;
+
+    @BeforeEach
+    void setUp() {
+        network = Mockito.mock(Network.class);
+        VariantManager variantManager = Mockito.mock(VariantManager.class);
+        Mockito.when(network.getVariantManager()).thenReturn(variantManager);
+        Mockito.when(variantManager.getWorkingVariantId()).thenReturn("step-variant");
+        networkShifter = Mockito.mock(NetworkShifter.class);
+
+        LinearFlowModel linearFlowModel = new LinearFlowModel(
+            List.of("line-1", "line-2"),
+            List.of("10YFR-RTE------C", "10YCH-SWISSGRIDZ"),
+            new double[][] {{0.5, -0.5}, {0.1, 0.2}},
+            new double[] {100, 50},
+            new double[] {1000, 300});
+        ShiftDispatcher shiftDispatcher = value -> Map.of("10YFR-RTE------C", value, "10YCH-SWISSGRIDZ", -value);
+        screening = new LinearFlowScreening<>(linearFlowModel, shiftDispatcher, 50);
+    }
+
+    private Optional<DichotomyStepResult<Object>> screenStep(double stepValue) throws GlskLimitationException, ShiftingException, ValidationException {
+        screening.recordingShifter(networkShifter).shiftNetwork(stepValue, network);
+        return screening.screen(network, null);
+    }
+
+    @Test
+    void checkFlowsArePredictedLinearly() {
+        LinearFlowModel linearFlowModel = new LinearFlowModel(List.of("line"), List.of("FR", "CH"), new double[][] {{0.5, -0.25}}, new double[] {10}, new double[] {100});
+        assertArrayEquals(new double[] {10 + 50 + 25}, linearFlowModel.predictFlows(Map.of("FR", 100., "CH", -100.)), 1e-6);
+        assertEquals(15, linearFlowModel.minMargin(Map.of("FR", 100., "CH", -100.)), 1e-6);
+    }
+
+    @Test
+    void checkOnlyUnsecureStepIsDecidedOutsideUncertaintyBand() throws GlskLimitationException, ShiftingException, ValidationException {
+        // Predicted secure steps are always escalated, as the screening must never confirm a secure step
+        assertTrue(screenStep(0).isEmpty());
+
+        Optional<DichotomyStepResult<Object>> unsecureResult = screenStep(2000);
+        assertTrue(unsecureResult.isPresent());
+        assertFalse(unsecureResult.get().isValid());
+
+        Mockito.verify(networkShifter).shiftNetwork(2000, network);
+    }
+
+    @Test
+    void checkStepIsEscalatedWithinUncertaintyBand() throws GlskLimitationException, ShiftingException, ValidationException {
+        assertTrue(screenStep(870).isEmpty());
+    }
+
+    @Test
+    void checkStepIsEscalatedWhenStepValueIsUnknown() throws ValidationException {
+        assertTrue(screening.screen(network, null).isEmpty());
+    }
+
+    @Test
+    void checkNothingIsRecordedWhenShiftFails() throws GlskLimitationException, ShiftingException, ValidationException {
+        NetworkShifter recordingShifter = screening.recordingShifter(networkShifter);
+        // Shifted but never validated, as a discarded speculative shift
+        recordingShifter.shiftNetwork(2000, network);
+        Mockito.doThrow(new GlskLimitationException("GLSK limits reached")).when(networkShifter).shiftNetwork(0, network);
+
+        assertThrows(GlskLimitationException.class, () -> recordingShifter.shiftNetwork(0, network));
+        assertTrue(screening.screen(network, null).isEmpty());
+    }
+
+    @Test
+    void checkScreenedStepMayEndTheFinalBracket() {
+        Network uctNetwork = Network.read("20210901_2230_test_network.uct", getClass().getResourceAsStream("20210901_2230_test_network.uct"));
+        Map<String, Double> stepValuesByVariant = new ConcurrentHashMap<>();
+        NetworkShifter shifter = (stepValue, stepNetwork) -> stepValuesByVariant.put(stepNetwork.getVariantManager().getWorkingVariantId(), stepValue);
+        NetworkValidator<Object> raoValidator = (stepNetwork, lastDichotomyStepResult) -> DichotomyStepResult.fromNetworkValidationResult(
+            new RaoResultMock(stepValuesByVariant.get(stepNetwork.getVariantManager().getWorkingVariantId()) < 560), null);
+        LinearFlowScreening<Object> linearFlowScreening = new LinearFlowScreening<>(
+            new LinearFlowModel(List.of("line"), List.of("FR"), new double[][] {{1}}, new double[] {0}, new double[] {500}),
+            value -> Map.of("FR", value),
+            50);
+
+        DichotomyResult<Object> result = DichotomyEngine.builder()
+            .withIndex(new Index<>(0, 1000, 100))
+            .withIndexStrategy(new RangeDivisionIndexStrategy<>(true))
+            .withNetworkShifter(linearFlowScreening.recordingShifter(shifter))
+            .withNetworkValidator(new CascadedNetworkValidator<>(List.of(linearFlowScreening), "rao", raoValidator))
+            .build()
+            .run(uctNetwork);
+
+        // 500 is right on the predicted limit, predicted margin of 562.5 is below the uncertainty band
+        assertEquals(500, result.getHighestValidStepValue(), 1e-6);
+        assertEquals("rao", result.getHighestValidStep().getDecidingStage());
+        assertNotNull(result.getHighestValidStep().getRaoResult());
+        assertEquals(562.5, result.getLowestInvalidStepValue(), 1e-6);
+        assertEquals(LinearFlowScreening.STAGE_NAME, result.getLowestInvalidStep().getDecidingStage());
+        assertNull(result.getLowestInvalidStep().getRaoResult());
+    }
+
+    @Test
+    void checkModelIsComputedFromDcSensitivity() {
+        VariantManager variantManager = network.getVariantManager();
+        Mockito.when(variantManager.getWorkingVariantId()).thenReturn("base-variant");
+        ZonalData<SensitivityVariableSet> zonalGlsks = new ZonalDataImpl<>(Map.of(
+            "FR", new SensitivityVariableSet("FR", List.of(new WeightedSensitivityVariable("generator-fr", 1)))));
+        SensitivityAnalysisResult sensitivityResult = Mockito.mock(SensitivityAnalysisResult.class);
+        Mockito.when(sensitivityResult.getValues()).thenReturn(List.of(
+            new SensitivityValue(0, -1, 0.4, 120),
+            new SensitivityValue(1, -1, -0.1, -30),
+            new SensitivityValue(0, 0, 0.6, 200),
+            new SensitivityValue(1, 0, -0.2, -50)));
+        SensitivityAnalysis.Runner runner = Mockito.mock(SensitivityAnalysis.Runner.class);
+        ArgumentCaptor<SensitivityAnalysisParameters> parameters = ArgumentCaptor.forClass(SensitivityAnalysisParameters.class);
+        List<Contingency> contingencies = List.of(new Contingency("contingency"));
+        Mockito.when(runner.run(Mockito.eq(network), Mockito.eq("base-variant"), Mockito.anyList(), Mockito.eq(contingencies), Mockito.anyList(), parameters.capture()))
+            .thenReturn(sensitivityResult);
+
+        LinearFlowModel linearFlowModel = LinearFlowModel.fromDcSensitivity(runner, network, zonalGlsks, List.of("line-1", "line-2"), contingencies, new double[] {500, 100});
+
+        assertTrue(parameters.getValue().getLoadFlowParameters().isDc());
+        assertTrue(linearFlowModel.hasZone("FR"));
+        assertEquals(List.of("line-1", "line-1/contingency", "line-2", "line-2/contingency"), linearFlowModel.cnecIds());
+        assertArrayEquals(new double[] {120 + 40, 200 + 60, -30 - 10, -50 - 20}, linearFlowModel.predictFlows(Map.of("FR", 100.)), 1e-6);
+        // Lowest margin is the one of line-2 after the contingency
+        assertEquals(30, linearFlowModel.minMargin(Map.of("FR", 100.)), 1e-6);
+    }
+
+    @Test
+    void checkThatModelFailsWithInconsistentDimensions() {
+        List<String> cnecIds = List.of("line");
+        List<String> zoneIds = List.of("FR", "CH");
+        double[][] ptdfs = {{0.5}};
+        double[] baseFlows = {10};
+        double[] flowLimits = {100};
+        assertThrows(DichotomyException.class, () -> new LinearFlowModel(cnecIds, zoneIds, ptdfs, baseFlows, flowLimits));
+    }
+}
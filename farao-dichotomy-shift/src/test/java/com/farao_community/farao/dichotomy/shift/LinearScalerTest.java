@@ -95,4 +95,32 @@ class LinearScalerTest {
         LinearScaler linearScaler = new LinearScaler(zonalScalable, shiftDispatcher);
         assertThrows(ShiftingException.class, () -> linearScaler.shiftNetwork(200, network));
     }
+
+    @Test
+    void incrementalScalingLeadsToSameNetworkAsFullScaling() throws ShiftingException, GlskLimitationException {
+        Mockito.when(shiftDispatcher.dispatch(100)).thenReturn(Map.of("10YCH-SWISSGRIDZ", 100.));
+        Mockito.when(shiftDispatcher.dispatch(300)).thenReturn(Map.of("10YCH-SWISSGRIDZ", 300.));
+        Network fullyShiftedNetwork = Network.read("20210901_2230_test_network.uct", getClass().getResourceAsStream("20210901_2230_test_network.uct"));
+        ZonalData<Scalable> fullyShiftedZonalScalable = GlskDocumentImporters
+                .importGlsk(Objects.requireNonNull(getClass().getResourceAsStream("20210901_2230_213_GSK_CO_CSE1.xml")))
+                .getZonalScalable(fullyShiftedNetwork);
+
+        LinearScaler linearScaler = new LinearScaler(zonalScalable, shiftDispatcher);
+        linearScaler.shiftNetwork(100, network);
+        linearScaler.shiftNetworkIncrementally(100, 300, network);
+        new LinearScaler(fullyShiftedZonalScalable, shiftDispatcher).shiftNetwork(300, fullyShiftedNetwork);
+
+        fullyShiftedNetwork.getGeneratorStream().forEach(generator ->
+            assertEquals(generator.getTargetP(), network.getGenerator(generator.getId()).getTargetP(), 1e-3));
+    }
+
+    @Test
+    void incrementalScalingWithGlskLimitation() throws ShiftingException, GlskLimitationException {
+        Mockito.when(shiftDispatcher.dispatch(100)).thenReturn(Map.of("10YCH-SWISSGRIDZ", 100.));
+        Mockito.when(shiftDispatcher.dispatch(5100)).thenReturn(Map.of("10YCH-SWISSGRIDZ", 5100.));
+
+        LinearScaler linearScaler = new LinearScaler(zonalScalable, shiftDispatcher);
+        linearScaler.shiftNetwork(100, network);
+        assertThrows(GlskLimitationException.class, () -> linearScaler.shiftNetworkIncrementally(100, 5100, network));
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.dichotomy.shift;
+
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.powsybl.glsk.api.io.GlskDocumentImporters;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoDimensionalLinearScalerTest {
+    private static final String NETWORK_FILENAME = "20210901_2230_test_network.uct";
+    private static final String GLSK_FILENAME = "20210901_2230_213_GSK_CO_CSE1.xml";
+
+    private Network network;
+    private ZonalData<Scalable> zonalScalable;
+
+    @BeforeEach
+    void setUp() {
+        network = Network.read(NETWORK_FILENAME, getClass().getResourceAsStream(NETWORK_FILENAME));
+        zonalScalable = GlskDocumentImporters
+                .importGlsk(Objects.requireNonNull(getClass().getResourceAsStream(GLSK_FILENAME)))
+                .getZonalScalable(network);
+    }
+
+    @Test
+    void combinedDispatcherSumsShiftsOfBothBorders() throws ShiftingException {
+        TwoDimensionalShiftDispatcher shiftDispatcher = TwoDimensionalShiftDispatcher.combine(
+            value -> Map.of("10YCH-SWISSGRIDZ", value, "10YFR-RTE------C", -value),
+            value -> Map.of("10YCH-SWISSGRIDZ", value, "10YAT-APG------L", -value));
+
+        Map<String, Double> shifts = shiftDispatcher.dispatch(100, 50);
+
+        assertEquals(3, shifts.size());
+        assertEquals(150, shifts.get("10YCH-SWISSGRIDZ"), 1e-3);
+        assertEquals(-100, shifts.get("10YFR-RTE------C"), 1e-3);
+        assertEquals(-50, shifts.get("10YAT-APG------L"), 1e-3);
+    }
+
+    @Test
+    void scalingLeadsToSameNetworkAsLinearScalerWithSummedShifts() throws ShiftingException, GlskLimitationException {
+        Network linearlyScaledNetwork = Network.read(NETWORK_FILENAME, getClass().getResourceAsStream(NETWORK_FILENAME));
+        ZonalData<Scalable> linearlyScaledZonalScalable = GlskDocumentImporters
+                .importGlsk(Objects.requireNonNull(getClass().getResourceAsStream(GLSK_FILENAME)))
+                .getZonalScalable(linearlyScaledNetwork);
+        TwoDimensionalShiftDispatcher shiftDispatcher = TwoDimensionalShiftDispatcher.combine(
+            value -> Map.of("10YCH-SWISSGRIDZ", value),
+            value -> Map.of("10YCH-SWISSGRIDZ", value));
+
+        new TwoDimensionalLinearScaler(zonalScalable, shiftDispatcher).shiftNetwork(100, 200, network);
+        new LinearScaler(linearlyScaledZonalScalable, value -> Map.of("10YCH-SWISSGRIDZ", value)).shiftNetwork(300, linearlyScaledNetwork);
+
+        linearlyScaledNetwork.getGeneratorStream().forEach(generator ->
+            assertEquals(generator.getTargetP(), network.getGenerator(generator.getId()).getTargetP(), 1e-3));
+    }
+
+    @Test
+    void scalingWithGlskLimitation() {
+        TwoDimensionalShiftDispatcher shiftDispatcher = (exchangeA, exchangeB) -> Map.of("10YCH-SWISSGRIDZ", exchangeA + exchangeB);
+        TwoDimensionalLinearScaler linearScaler = new TwoDimensionalLinearScaler(zonalScalable, shiftDispatcher);
+        assertThrows(GlskLimitationException.class, () -> linearScaler.shiftNetwork(2500, 2500, network));
+    }
+}